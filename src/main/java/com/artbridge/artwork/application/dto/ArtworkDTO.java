@@ -22,5 +22,8 @@ public class ArtworkDTO implements Serializable {
     private String makingday;
     private MemberDTO member;
     private Status status;
+    private Long likeCount;
+    private Long viewCount;
+    private Long commentCount;
 
 }
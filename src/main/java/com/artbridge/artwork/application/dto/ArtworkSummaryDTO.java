@@ -0,0 +1,55 @@
+package com.artbridge.artwork.application.dto;
+
+import com.artbridge.artwork.domain.model.Artwork;
+import com.artbridge.artwork.domain.standardType.Status;
+import java.io.Serializable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A read-only summary DTO of the {@link Artwork} entity, used by list views.
+ * It carries the denormalized counters so that a gallery tile can be rendered without extra calls.
+ * It is projected directly by the repository queries, so no managed entity is hydrated.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+@Data
+@NoArgsConstructor
+public class ArtworkSummaryDTO implements Serializable {
+
+    private Long id;
+    private String title;
+    private String shortDescription;
+    private String imageUrl;
+    private String artistname;
+    private MemberDTO member;
+    private Status status;
+    private Long likeCount;
+    private Long viewCount;
+    private Long commentCount;
+
+    public ArtworkSummaryDTO(
+        Long id,
+        String title,
+        String shortDescription,
+        String imageUrl,
+        String artistname,
+        Long memberId,
+        String memberLogin,
+        String memberName,
+        Status status,
+        Long likeCount,
+        Long viewCount,
+        Long commentCount
+    ) {
+        this.id = id;
+        this.title = title;
+        this.shortDescription = shortDescription;
+        this.imageUrl = imageUrl;
+        this.artistname = artistname;
+        this.member = memberId == null ? null : new MemberDTO(memberId, memberLogin, memberName);
+        this.status = status;
+        this.likeCount = likeCount;
+        this.viewCount = viewCount;
+        this.commentCount = commentCount;
+    }
+}
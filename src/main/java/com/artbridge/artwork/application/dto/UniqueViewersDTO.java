@@ -0,0 +1,30 @@
+package com.artbridge.artwork.application.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estimated number of distinct members who viewed an artwork.
+ * The estimates come from HyperLogLog sketches and have a standard error of about 1.6%.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniqueViewersDTO implements Serializable {
+
+    private Long artworkId;
+
+    /**
+     * Unique viewers of the current UTC day.
+     */
+    private Long day;
+
+    /**
+     * Unique viewers of the last 7 UTC days, including the current one.
+     */
+    private Long week;
+
+    private Long allTime;
+}
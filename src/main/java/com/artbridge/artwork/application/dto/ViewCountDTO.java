@@ -0,0 +1,20 @@
+package com.artbridge.artwork.application.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of views of an artwork during the hour starting at {@code hour}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewCountDTO implements Serializable {
+
+    private Instant hour;
+
+    private Long count;
+}
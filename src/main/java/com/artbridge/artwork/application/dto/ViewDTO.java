@@ -1,6 +1,7 @@
 package com.artbridge.artwork.application.dto;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 import com.artbridge.artwork.domain.model.View;
 import lombok.Data;
@@ -15,5 +16,6 @@ public class ViewDTO implements Serializable {
     private Long id;
     private MemberDTO member;
     private ArtworkDTO artwork;
+    private Instant viewedDate;
 
 }
@@ -14,6 +14,27 @@ public interface ArtworkMapper extends EntityMapper<ArtworkDTO, Artwork> {
     ArtworkDTO toDto(Artwork artwork);
 
     @Mapping(target = "member", source = "member")
+    @Mapping(target = "likeCount", ignore = true)
+    @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
     Artwork toEntity(ArtworkDTO artworkDTO);
 
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "likeCount", ignore = true)
+    @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    void partialUpdate(@MappingTarget Artwork entity, ArtworkDTO dto);
+
+    /**
+     * Copy the editable fields of a DTO onto a managed entity, keeping its id and counters.
+     */
+    @Named("update")
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "member", source = "member")
+    @Mapping(target = "likeCount", ignore = true)
+    @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    void update(@MappingTarget Artwork entity, ArtworkDTO dto);
+
 }
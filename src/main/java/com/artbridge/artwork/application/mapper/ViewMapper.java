@@ -15,5 +15,6 @@ public interface ViewMapper extends EntityMapper<ViewDTO, View> {
 
     @Mapping(target = "artwork", source = "artwork")
     @Mapping(target = "member", source = "member")
+    @Mapping(target = "viewedDate", ignore = true)
     View toEntity(ViewDTO viewDTO);
 }
@@ -2,9 +2,12 @@ package com.artbridge.artwork.application.usecase;
 
 import com.artbridge.artwork.domain.model.Artwork;
 import com.artbridge.artwork.application.dto.ArtworkDTO;
+import com.artbridge.artwork.application.dto.ArtworkSummaryDTO;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link Artwork}.
@@ -38,12 +41,33 @@ public interface ArtworkUsecase {
 
 
     /**
-     * Get all the artworks.
+     * Get all the approved artworks as summaries.
      *
      * @param pageable the pagination information.
-     * @return the list of entities.
+     * @return the list of summaries.
      */
-    Page<ArtworkDTO> findAll(Pageable pageable);
+    Page<ArtworkSummaryDTO> findAll(Pageable pageable);
+
+
+    /**
+     * 커서(이전 페이지의 마지막 Artwork id) 이후의 승인된 Artwork 목록을 조회합니다.
+     * OFFSET 대신 {@code id < cursor} 조건으로 탐색하므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 Artwork id (첫 페이지인 경우 null)
+     * @param size   조회할 Artwork 개수
+     * @return 다음 페이지 존재 여부를 포함한 ArtworkSummaryDTO의 Slice 객체
+     */
+    Slice<ArtworkSummaryDTO> findAllAfter(Long cursor, int size);
+
+
+    /**
+     * 최근 좋아요, 댓글, 조회 수를 시간에 따라 감쇠시킨 점수가 가장 높은 승인된 Artwork 목록을 조회합니다.
+     * 각 노드의 메모리에 유지되는 순위를 반환하므로 데이터베이스를 조회하지 않습니다.
+     *
+     * @param size 조회할 Artwork 개수
+     * @return 점수가 높은 순서의 ArtworkSummaryDTO 목록
+     */
+    List<ArtworkSummaryDTO> findTrending(int size);
 
 
     /**
@@ -68,10 +92,10 @@ public interface ArtworkUsecase {
      *보류 중인 Artwork의 페이지를 검색합니다.
      *
      * @param pageable 페이징 정보 (페이지 번호, 페이지 크기, 정렬)가 포함된 객체
-     * @return ArtworkDTO의 페이지 객체
+     * @return ArtworkSummaryDTO의 페이지 객체
      * @throws IllegalArgumentException pageable 매개변수가 null인 경우 발생합니다.
      */
-    Page<ArtworkDTO> findCreatePendings(Pageable pageable);
+    Page<ArtworkSummaryDTO> findCreatePendings(Pageable pageable);
 
 
     /**
@@ -80,7 +104,7 @@ public interface ArtworkUsecase {
      * @param pageable 페이지 정보 (Pageable)
      * @return 페이지별로 조회된 업데이트 대기 중인 Artwork 목록 (Page 객체)
      */
-    Page<ArtworkDTO> findUpdatePendings(Pageable pageable);
+    Page<ArtworkSummaryDTO> findUpdatePendings(Pageable pageable);
 
 
     /**
@@ -89,7 +113,7 @@ public interface ArtworkUsecase {
      * @param pageable 페이지 정보 (Pageable)
      * @return 페이지별로 조회된 삭제 대기 중인 Artwork 목록 (Page 객체)
      */
-    Page<ArtworkDTO> findDeletePendings(Pageable pageable);
+    Page<ArtworkSummaryDTO> findDeletePendings(Pageable pageable);
 
 
 
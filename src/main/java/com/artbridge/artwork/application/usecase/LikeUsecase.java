@@ -3,7 +3,10 @@ package com.artbridge.artwork.application.usecase;
 import com.artbridge.artwork.application.dto.LikeDTO;
 import com.artbridge.artwork.domain.model.Like;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -20,6 +23,15 @@ public interface LikeUsecase {
      */
     LikeDTO save(LikeDTO likeDTO);
 
+    /**
+     * 회원이 아직 좋아요를 누르지 않은 경우에만 Like을 저장합니다.
+     * 이미 존재하는 경우 아무 작업도 하지 않으며, 한 번의 쿼리로 처리됩니다.
+     *
+     * @param likeDTO 저장할 Like의 정보를 담은 LikeDTO 객체 (artwork, member 필수)
+     * @return 새로 저장된 경우 true, 이미 존재하는 경우 false
+     */
+    boolean saveIfAbsent(LikeDTO likeDTO);
+
     /**
      * Updates a like.
      *
@@ -52,14 +64,24 @@ public interface LikeUsecase {
      */
     Optional<LikeDTO> findOne(Long id);
 
+    /**
+     * 주어진 Artwork ID와 회원 ID에 해당하는 Like을 조회합니다.
+     *
+     * @param artworkId Like의 Artwork ID
+     * @param memberId  Like을 소유한 회원의 ID
+     * @return 조회된 Like, 존재하지 않는 경우 empty
+     */
+    Optional<LikeDTO> findOne(Long artworkId, Long memberId);
 
     /**
      * 주어진 Artwork ID와 MemberDTO ID를 기준으로 Like을 삭제합니다.
+     * 존재하지 않는 경우 아무 작업도 하지 않으며, 한 번의 쿼리로 처리됩니다.
      *
      * @param artworkId 삭제할 Like의 Artwork ID
      * @param memberId Like을 소유한 MemberDTO의 ID
+     * @return 삭제된 경우 true, 존재하지 않는 경우 false
      */
-    void delete(Long artworkId, Long memberId);
+    boolean delete(Long artworkId, Long memberId);
 
     /**
      * Artwork ID를 기준으로 Like 개수를 조회합니다.
@@ -69,4 +91,28 @@ public interface LikeUsecase {
      */
     Long countByArtworkId(Long artworkId);
 
+    /**
+     * 여러 Artwork의 Like 개수를 한 번에 조회합니다.
+     *
+     * @param artworkIds Artwork의 식별자(ID) 목록
+     * @return Artwork ID별 Like 개수
+     */
+    Map<Long, Long> countByArtworkIds(Collection<Long> artworkIds);
+
+    /**
+     * 주어진 Artwork ID 목록 중 회원이 좋아요를 누른 Artwork ID를 조회합니다.
+     *
+     * @param memberId   회원의 ID
+     * @param artworkIds 확인할 Artwork ID 목록
+     * @return 회원이 좋아요를 누른 Artwork ID 집합
+     */
+    Set<Long> findLikedArtworkIds(Long memberId, Collection<Long> artworkIds);
+
+    /**
+     * 회원의 모든 Like에 복사된 회원 이름을 변경합니다.
+     *
+     * @param id   회원의 ID
+     * @param name 회원의 새 이름
+     */
+    void modifyMemberName(long id, String name);
 }
@@ -1,7 +1,11 @@
 package com.artbridge.artwork.application.usecase;
 
 import com.artbridge.artwork.domain.model.View;
+import com.artbridge.artwork.application.dto.UniqueViewersDTO;
+import com.artbridge.artwork.application.dto.ViewCountDTO;
 import com.artbridge.artwork.application.dto.ViewDTO;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +22,22 @@ public interface ViewUsecase {
      */
     ViewDTO save(ViewDTO viewDTO);
 
+    /**
+     * Register a view in the deduplication window.
+     *
+     * @param viewDTO the view to register.
+     * @return {@code true} if the view must be recorded, {@code false} if the member already viewed the artwork recently.
+     */
+    boolean registerView(ViewDTO viewDTO);
+
+    /**
+     * Buffer a view to be written asynchronously with other views.
+     *
+     * @param viewDTO the view to record, with an artwork id.
+     * @return {@code true} if the view was accepted, {@code false} if the ingestion buffer is full.
+     */
+    boolean enqueue(ViewDTO viewDTO);
+
     /**
      * Updates a view.
      *
@@ -50,10 +70,36 @@ public interface ViewUsecase {
      */
     Optional<ViewDTO> findOne(Long id);
 
+    /**
+     * Estimate the unique viewers of an artwork.
+     *
+     * @param artworkId the id of the artwork.
+     * @return the estimated unique viewers over the current day, week and all time.
+     */
+    UniqueViewersDTO estimateUniqueViewers(Long artworkId);
+
+    /**
+     * Get the hourly views of an artwork.
+     *
+     * @param artworkId the id of the artwork.
+     * @param from      the start of the range, inclusive.
+     * @param to        the end of the range, exclusive.
+     * @return the non-zero hourly counts, oldest first.
+     */
+    List<ViewCountDTO> findHourlyViews(Long artworkId, Instant from, Instant to);
+
     /**
      * Delete the "id" view.
      *
      * @param id the id of the entity.
      */
     void delete(Long id);
+
+    /**
+     * Rename a member in all the views of the member.
+     *
+     * @param id   the id of the member.
+     * @param name the new name of the member.
+     */
+    void modifyMemberName(long id, String name);
 }
@@ -1,18 +1,28 @@
 package com.artbridge.artwork.application.usecase.impl;
 
 import com.artbridge.artwork.application.usecase.ArtworkUsecase;
+import com.artbridge.artwork.infrastructure.cache.ArtworkDetailCache;
+import com.artbridge.artwork.infrastructure.cache.ArtworkExistenceFilter;
+import com.artbridge.artwork.infrastructure.cache.ArtworkFeedCache;
 import com.artbridge.artwork.infrastructure.messaging.MemberProducer;
 import com.artbridge.artwork.domain.model.Artwork;
 import com.artbridge.artwork.domain.standardType.Status;
 import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
+import com.artbridge.artwork.infrastructure.repository.MemberNameRepository;
+import com.artbridge.artwork.infrastructure.trending.TrendingScores;
 import com.artbridge.artwork.application.dto.ArtworkDTO;
+import com.artbridge.artwork.application.dto.ArtworkSummaryDTO;
 import com.artbridge.artwork.application.mapper.ArtworkMapper;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -30,10 +40,34 @@ public class ArtworkUsecaseImpl implements ArtworkUsecase {
 
     private final MemberProducer memberProducer;
 
-    public ArtworkUsecaseImpl(ArtworkRepository artworkRepository, ArtworkMapper artworkMapper, MemberProducer memberProducer) {
+    private final TrendingScores trendingScores;
+
+    private final ArtworkDetailCache artworkDetailCache;
+
+    private final ArtworkExistenceFilter artworkExistenceFilter;
+
+    private final ArtworkFeedCache artworkFeedCache;
+
+    private final MemberNameRepository memberNameRepository;
+
+    public ArtworkUsecaseImpl(
+        ArtworkRepository artworkRepository,
+        ArtworkMapper artworkMapper,
+        MemberProducer memberProducer,
+        TrendingScores trendingScores,
+        ArtworkDetailCache artworkDetailCache,
+        ArtworkExistenceFilter artworkExistenceFilter,
+        ArtworkFeedCache artworkFeedCache,
+        MemberNameRepository memberNameRepository
+    ) {
         this.artworkRepository = artworkRepository;
         this.artworkMapper = artworkMapper;
         this.memberProducer = memberProducer;
+        this.trendingScores = trendingScores;
+        this.artworkDetailCache = artworkDetailCache;
+        this.artworkExistenceFilter = artworkExistenceFilter;
+        this.artworkFeedCache = artworkFeedCache;
+        this.memberNameRepository = memberNameRepository;
     }
 
     @Override
@@ -41,24 +75,31 @@ public class ArtworkUsecaseImpl implements ArtworkUsecase {
         log.debug("Request to save Artwork : {}", artworkDTO);
 
         Artwork artwork = artworkMapper.toEntity(artworkDTO);
-        memberProducer.requestMemberName(artwork.getMember().getId());
+        memberProducer.resolveMemberName(artwork.getMember());
         artwork.setStatus(Status.UPLOAD_PENDING);
         artwork = artworkRepository.save(artwork);
+        artworkExistenceFilter.add(artwork.getId());
         return artworkMapper.toDto(artwork);
     }
 
     @Override
     public ArtworkDTO update(ArtworkDTO artworkDTO) {
         log.debug("Request to update Artwork : {}", artworkDTO);
-        Artwork artwork = artworkMapper.toEntity(artworkDTO);
+        // Loaded rather than merged, so that the counters of the second level cache entry and of the result are kept.
+        Artwork artwork = artworkRepository.findById(artworkDTO.getId()).orElseThrow();
+        artworkMapper.update(artwork, artworkDTO);
         artwork.setStatus(Status.REVISION_PENDING);
         artwork = artworkRepository.save(artwork);
+        artworkDetailCache.evict(artwork.getId());
+        artworkFeedCache.evict();
         return artworkMapper.toDto(artwork);
     }
 
     @Override
     public Optional<ArtworkDTO> partialUpdate(ArtworkDTO artworkDTO) {
         log.debug("Request to partially update Artwork : {}", artworkDTO);
+        artworkDetailCache.evict(artworkDTO.getId());
+        artworkFeedCache.evict();
 
         return artworkRepository
             .findById(artworkDTO.getId())
@@ -73,48 +114,95 @@ public class ArtworkUsecaseImpl implements ArtworkUsecase {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ArtworkDTO> findAll(Pageable pageable) {
+    public Page<ArtworkSummaryDTO> findAll(Pageable pageable) {
         log.debug("Request to get all Artworks");
-        return artworkRepository.findAllByStatusOrderByIdDesc(Status.OK, pageable).map(artworkMapper::toDto);
+        return artworkFeedCache.page(pageable, () -> artworkRepository.findSummariesByStatus(Status.OK, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public Slice<ArtworkSummaryDTO> findAllAfter(Long cursor, int size) {
+        log.debug("Request to get Artworks after : {}", cursor);
+        if (cursor == null) {
+            return artworkFeedCache.first(size, () -> findSummariesAfter(Long.MAX_VALUE, size));
+        }
+        return findSummariesAfter(cursor, size);
+    }
+
+    private Slice<ArtworkSummaryDTO> findSummariesAfter(long cursor, int size) {
+        return artworkRepository.findSummariesByStatusAndIdLessThan(Status.OK, cursor, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ArtworkSummaryDTO> findTrending(int size) {
+        log.debug("Request to get trending Artworks : {}", size);
+        return trendingScores.top(size);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<ArtworkDTO> findOne(Long id) {
         log.debug("Request to get Artwork : {}", id);
-        return artworkRepository.findByIdAndStatus(id, Status.OK).map(artworkMapper::toDto);
+        if (artworkExistenceFilter.isMissing(id)) {
+            return Optional.empty();
+        }
+        return artworkDetailCache.get(id, this::loadApproved);
+    }
+
+    /**
+     * Load an approved artwork by id rather than by id and status, so that the load goes through the second level
+     * cache.
+     */
+    private ArtworkDTO loadApproved(Long id) {
+        Optional<Artwork> artwork = artworkRepository.findById(id);
+        if (artwork.isEmpty()) {
+            artworkExistenceFilter.markMissing(id);
+            return null;
+        }
+        return artwork.filter(existing -> existing.getStatus() == Status.OK).map(artworkMapper::toDto).orElse(null);
     }
 
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Artwork : {}", id);
         artworkRepository.deleteById(id);
+        artworkDetailCache.evict(id);
+        artworkFeedCache.evict();
+        artworkExistenceFilter.remove(id);
     }
 
     @Override
-    public Page<ArtworkDTO> findCreatePendings(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ArtworkSummaryDTO> findCreatePendings(Pageable pageable) {
         log.debug("Request to get all Artworks");
-        return artworkRepository.findAllByStatusOrderByIdDesc(Status.UPLOAD_PENDING, pageable).map(artworkMapper::toDto);
+        return artworkRepository.findSummariesByStatus(Status.UPLOAD_PENDING, pageable);
     }
 
     @Override
-    public Page<ArtworkDTO> findUpdatePendings(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ArtworkSummaryDTO> findUpdatePendings(Pageable pageable) {
         log.debug("Request to get all Artworks");
-        return artworkRepository.findAllByStatusOrderByIdDesc(Status.REVISION_PENDING, pageable).map(artworkMapper::toDto);
+        return artworkRepository.findSummariesByStatus(Status.REVISION_PENDING, pageable);
     }
 
     @Override
-    public Page<ArtworkDTO> findDeletePendings(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ArtworkSummaryDTO> findDeletePendings(Pageable pageable) {
         log.debug("Request to get all Artworks");
-        return artworkRepository.findAllByStatusOrderByIdDesc(Status.DELETE_PENDING, pageable).map(artworkMapper::toDto);
+        return artworkRepository.findSummariesByStatus(Status.DELETE_PENDING, pageable);
     }
 
     @Override
     public ArtworkDTO deletePending(ArtworkDTO artworkDTO) {
         log.debug("Request to delete Artwork : {}", artworkDTO);
-        Artwork artwork = artworkMapper.toEntity(artworkDTO);
+        // Loaded rather than merged, so that the counters of the second level cache entry and of the result are kept.
+        Artwork artwork = artworkRepository.findById(artworkDTO.getId()).orElseThrow();
+        artworkMapper.update(artwork, artworkDTO);
         artwork.setStatus(Status.DELETE_PENDING);
         artwork = artworkRepository.save(artwork);
+        artworkDetailCache.evict(artwork.getId());
+        artworkFeedCache.evict();
         return artworkMapper.toDto(artwork);
     }
 
@@ -124,6 +212,8 @@ public class ArtworkUsecaseImpl implements ArtworkUsecase {
         return artworkRepository.findById(id)
             .map(artwork -> {
                 artwork.setStatus(Status.OK);
+                artworkDetailCache.evict(id);
+                artworkFeedCache.evict();
                 return artworkMapper.toDto(artworkRepository.save(artwork));
             })
             .orElseThrow();
@@ -134,18 +224,26 @@ public class ArtworkUsecaseImpl implements ArtworkUsecase {
         log.debug("Request to save Artwork : {}", artworkDTO);
 
         Artwork artwork = artworkMapper.toEntity(artworkDTO);
-        memberProducer.requestMemberName(artwork.getMember().getId());
+        memberProducer.resolveMemberName(artwork.getMember());
         artwork.setStatus(Status.OK);
         artwork = artworkRepository.save(artwork);
+        artworkExistenceFilter.add(artwork.getId());
+        artworkFeedCache.evict();
         return artworkMapper.toDto(artwork);
     }
 
+    @Override
     public void modifyMemberName(long id, String name) {
-        log.debug("Request to update Artwork : {}", id);
-        artworkRepository.findAllByMemberId(id).forEach(artwork -> {
-            artwork.getMember().setName(name);
-            artworkRepository.save(artwork);
-        });
+        log.debug("Request to modify member name : {}", id);
+        int renamed = memberNameRepository.renameAll(
+            MemberNameRepository.Table.ARTWORK,
+            id,
+            name,
+            ids -> ids.forEach(artworkDetailCache::evict)
+        );
+        if (renamed > 0) {
+            artworkFeedCache.evict();
+        }
     }
 
 
@@ -3,7 +3,10 @@ package com.artbridge.artwork.application.usecase.impl;
 import com.artbridge.artwork.application.usecase.CommentUsecase;
 import com.artbridge.artwork.domain.model.Comment;
 import com.artbridge.artwork.infrastructure.messaging.MemberProducer;
+import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
 import com.artbridge.artwork.infrastructure.repository.CommentRepository;
+import com.artbridge.artwork.infrastructure.repository.MemberNameRepository;
+import com.artbridge.artwork.infrastructure.trending.TrendingScores;
 import com.artbridge.artwork.application.dto.CommentDTO;
 import com.artbridge.artwork.application.mapper.CommentMapper;
 import java.util.Optional;
@@ -29,21 +32,39 @@ public class CommentUsecaseImpl implements CommentUsecase {
 
     private final MemberProducer memberProducer;
 
+    private final ArtworkRepository artworkRepository;
 
-    public CommentUsecaseImpl(CommentRepository commentRepository, CommentMapper commentMapper, MemberProducer memberProducer) {
+    private final TrendingScores trendingScores;
+
+    private final MemberNameRepository memberNameRepository;
+
+    public CommentUsecaseImpl(
+        CommentRepository commentRepository,
+        CommentMapper commentMapper,
+        MemberProducer memberProducer,
+        ArtworkRepository artworkRepository,
+        TrendingScores trendingScores,
+        MemberNameRepository memberNameRepository
+    ) {
         this.commentRepository = commentRepository;
         this.commentMapper = commentMapper;
         this.memberProducer = memberProducer;
+        this.artworkRepository = artworkRepository;
+        this.trendingScores = trendingScores;
+        this.memberNameRepository = memberNameRepository;
     }
 
     @Override
     public CommentDTO save(CommentDTO commentDTO) {
         log.debug("Request to save Comment : {}", commentDTO);
         Comment comment = commentMapper.toEntity(commentDTO);
-        /*TODO: - Event memberDto name*/
-        this.memberProducer.requestMemberName(comment.getMember().getId());
+        this.memberProducer.resolveMemberName(comment.getMember());
 
         comment = commentRepository.save(comment);
+        if (comment.getArtwork() != null) {
+            artworkRepository.addCommentCount(comment.getArtwork().getId(), 1);
+            trendingScores.addComments(comment.getArtwork().getId(), 1);
+        }
         return commentMapper.toDto(comment);
     }
 
@@ -87,7 +108,15 @@ public class CommentUsecaseImpl implements CommentUsecase {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Comment : {}", id);
-        commentRepository.deleteById(id);
+        commentRepository
+            .findById(id)
+            .ifPresent(comment -> {
+                commentRepository.delete(comment);
+                if (comment.getArtwork() != null) {
+                    artworkRepository.addCommentCount(comment.getArtwork().getId(), -1);
+                    trendingScores.addComments(comment.getArtwork().getId(), -1);
+                }
+            });
     }
 
     @Override
@@ -99,9 +128,6 @@ public class CommentUsecaseImpl implements CommentUsecase {
     @Override
     public void modifyMemberName(long id, String name) {
         log.debug("Request to modify member name : {}", id);
-        commentRepository.findCommentsByMember_Id(id).forEach(comment -> {
-            comment.setMemberName(name);
-            commentRepository.save(comment);
-        });
+        memberNameRepository.renameAll(MemberNameRepository.Table.COMMENT, id, name);
     }
 }
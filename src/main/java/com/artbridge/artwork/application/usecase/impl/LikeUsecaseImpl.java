@@ -3,9 +3,16 @@ package com.artbridge.artwork.application.usecase.impl;
 import com.artbridge.artwork.application.usecase.LikeUsecase;
 import com.artbridge.artwork.application.dto.LikeDTO;
 import com.artbridge.artwork.domain.model.Like;
+import com.artbridge.artwork.infrastructure.counter.LikeCountBuffer;
 import com.artbridge.artwork.infrastructure.repository.LikeRepository;
+import com.artbridge.artwork.infrastructure.repository.MemberNameRepository;
+import com.artbridge.artwork.infrastructure.trending.TrendingScores;
 import com.artbridge.artwork.application.mapper.LikeMapper;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -26,9 +33,24 @@ public class LikeUsecaseImpl implements LikeUsecase {
 
     private final LikeMapper likeMapper;
 
-    public LikeUsecaseImpl(LikeRepository likeRepository, LikeMapper likeMapper) {
+    private final LikeCountBuffer likeCountBuffer;
+
+    private final TrendingScores trendingScores;
+
+    private final MemberNameRepository memberNameRepository;
+
+    public LikeUsecaseImpl(
+        LikeRepository likeRepository,
+        LikeMapper likeMapper,
+        LikeCountBuffer likeCountBuffer,
+        TrendingScores trendingScores,
+        MemberNameRepository memberNameRepository
+    ) {
         this.likeRepository = likeRepository;
         this.likeMapper = likeMapper;
+        this.likeCountBuffer = likeCountBuffer;
+        this.trendingScores = trendingScores;
+        this.memberNameRepository = memberNameRepository;
     }
 
 
@@ -38,10 +60,28 @@ public class LikeUsecaseImpl implements LikeUsecase {
         /*TODO: - Event memberDto name*/
         Like like = likeMapper.toEntity(likeDTO);
         like = likeRepository.save(like);
+        if (like.getArtwork() != null) {
+            likeCountBuffer.add(like.getArtwork().getId(), 1);
+            trendingScores.addLikes(like.getArtwork().getId(), 1);
+        }
         return likeMapper.toDto(like);
     }
 
 
+    @Override
+    public boolean saveIfAbsent(LikeDTO likeDTO) {
+        log.debug("Request to save Like if absent : {}", likeDTO);
+        Like like = likeMapper.toEntity(likeDTO);
+        Long artworkId = like.getArtwork().getId();
+        boolean inserted = likeRepository.insertIfAbsent(artworkId, like.getMember());
+        if (inserted) {
+            likeCountBuffer.add(artworkId, 1);
+            trendingScores.addLikes(artworkId, 1);
+        }
+        return inserted;
+    }
+
+
     @Override
     public LikeDTO update(LikeDTO likeDTO) {
         log.debug("Request to update Like : {}", likeDTO);
@@ -84,17 +124,52 @@ public class LikeUsecaseImpl implements LikeUsecase {
 
 
     @Override
-    public void delete(Long artworkId, Long memberId) {
+    @Transactional(readOnly = true)
+    public Optional<LikeDTO> findOne(Long artworkId, Long memberId) {
+        log.debug("Request to get Like of Artwork {} by Member {}", artworkId, memberId);
+        return likeRepository.findOneByArtwork_IdAndMember_Id(artworkId, memberId).map(likeMapper::toDto);
+    }
+
+
+    @Override
+    public boolean delete(Long artworkId, Long memberId) {
         log.debug("Request to delete Like : {}", artworkId);
 
-        if (likeRepository.existsByArtwork_IdAndMember_Id(artworkId, memberId)) {
-            likeRepository.deleteByArtwork_IdAndMember_Id(artworkId, memberId);
-        }
+        int deleted = likeRepository.deleteIfPresent(artworkId, memberId);
+        likeCountBuffer.add(artworkId, -deleted);
+        trendingScores.addLikes(artworkId, -deleted);
+        return deleted > 0;
     }
 
 
     @Override
+    @Transactional(readOnly = true)
     public Long countByArtworkId(Long artworkId) {
-        return likeRepository.countByArtwork_Id(artworkId);
+        return likeCountBuffer.count(artworkId);
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countByArtworkIds(Collection<Long> artworkIds) {
+        return likeCountBuffer.counts(artworkIds);
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedArtworkIds(Long memberId, Collection<Long> artworkIds) {
+        log.debug("Request to get liked Artworks of Member : {}", memberId);
+        if (artworkIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return likeRepository.findLikedArtworkIds(memberId, artworkIds);
+    }
+
+
+    @Override
+    public void modifyMemberName(long id, String name) {
+        log.debug("Request to modify member name : {}", id);
+        memberNameRepository.renameAll(MemberNameRepository.Table.LIKE, id, name);
     }
 }
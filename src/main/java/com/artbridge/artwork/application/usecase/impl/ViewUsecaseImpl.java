@@ -3,15 +3,28 @@ package com.artbridge.artwork.application.usecase.impl;
 import com.artbridge.artwork.application.usecase.ViewUsecase;
 import com.artbridge.artwork.application.mapper.ViewMapper;
 import com.artbridge.artwork.domain.model.View;
+import com.artbridge.artwork.infrastructure.ingestion.ViewDeduplicator;
+import com.artbridge.artwork.infrastructure.ingestion.ViewEventBuffer;
+import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
+import com.artbridge.artwork.infrastructure.repository.MemberNameRepository;
+import com.artbridge.artwork.infrastructure.repository.ViewHourlyRepository;
 import com.artbridge.artwork.infrastructure.repository.ViewRepository;
+import com.artbridge.artwork.infrastructure.sketch.UniqueViewerSketches;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import com.artbridge.artwork.infrastructure.trending.TrendingScores;
+import com.artbridge.artwork.application.dto.UniqueViewersDTO;
+import com.artbridge.artwork.application.dto.ViewCountDTO;
 import com.artbridge.artwork.application.dto.ViewDTO;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -27,19 +40,76 @@ public class ViewUsecaseImpl implements ViewUsecase {
 
     private final ViewMapper viewMapper;
 
-    public ViewUsecaseImpl(ViewRepository viewRepository, ViewMapper viewMapper) {
+    private final ArtworkRepository artworkRepository;
+
+    private final ViewEventBuffer viewEventBuffer;
+
+    private final UniqueViewerSketches uniqueViewerSketches;
+
+    private final ViewDeduplicator viewDeduplicator;
+
+    private final ViewHourlyRepository viewHourlyRepository;
+
+    private final TrendingScores trendingScores;
+
+    private final MemberNameRepository memberNameRepository;
+
+    public ViewUsecaseImpl(
+        ViewRepository viewRepository,
+        ViewMapper viewMapper,
+        ArtworkRepository artworkRepository,
+        ViewEventBuffer viewEventBuffer,
+        UniqueViewerSketches uniqueViewerSketches,
+        ViewDeduplicator viewDeduplicator,
+        ViewHourlyRepository viewHourlyRepository,
+        TrendingScores trendingScores,
+        MemberNameRepository memberNameRepository
+    ) {
         this.viewRepository = viewRepository;
         this.viewMapper = viewMapper;
+        this.artworkRepository = artworkRepository;
+        this.viewEventBuffer = viewEventBuffer;
+        this.uniqueViewerSketches = uniqueViewerSketches;
+        this.viewDeduplicator = viewDeduplicator;
+        this.viewHourlyRepository = viewHourlyRepository;
+        this.trendingScores = trendingScores;
+        this.memberNameRepository = memberNameRepository;
     }
 
     @Override
     public ViewDTO save(ViewDTO viewDTO) {
         log.debug("Request to save View : {}", viewDTO);
+        // The view was registered by registerView: forgotten if it is not recorded, so that it is counted when retried.
+        TransactionCallbacks.afterRollback(() -> viewDeduplicator.forget(artworkId(viewDTO), memberId(viewDTO)));
         View view = viewMapper.toEntity(viewDTO);
         view = viewRepository.save(view);
+        if (view.getArtwork() != null) {
+            Long artworkId = view.getArtwork().getId();
+            Long memberId = view.getMember() == null ? null : view.getMember().getId();
+            artworkRepository.addViewCount(artworkId, 1);
+            trendingScores.addViews(artworkId, 1);
+            TransactionCallbacks.afterCommit(() -> uniqueViewerSketches.add(artworkId, memberId));
+        }
         return viewMapper.toDto(view);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean registerView(ViewDTO viewDTO) {
+        return viewDeduplicator.register(artworkId(viewDTO), memberId(viewDTO));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean enqueue(ViewDTO viewDTO) {
+        log.debug("Request to enqueue View : {}", viewDTO);
+        if (!viewEventBuffer.offer(viewMapper.toEntity(viewDTO))) {
+            viewDeduplicator.forget(artworkId(viewDTO), memberId(viewDTO));
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public ViewDTO update(ViewDTO viewDTO) {
         log.debug("Request to update View : {}", viewDTO);
@@ -77,9 +147,44 @@ public class ViewUsecaseImpl implements ViewUsecase {
         return viewRepository.findById(id).map(viewMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public UniqueViewersDTO estimateUniqueViewers(Long artworkId) {
+        log.debug("Request to estimate unique viewers of Artwork : {}", artworkId);
+        return uniqueViewerSketches.estimate(artworkId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ViewCountDTO> findHourlyViews(Long artworkId, Instant from, Instant to) {
+        log.debug("Request to get hourly views of Artwork : {} from {} to {}", artworkId, from, to);
+        return viewHourlyRepository.findHourlyViews(artworkId, from, to);
+    }
+
     @Override
     public void delete(Long id) {
         log.debug("Request to delete View : {}", id);
-        viewRepository.deleteById(id);
+        viewRepository
+            .findById(id)
+            .ifPresent(view -> {
+                viewRepository.delete(view);
+                if (view.getArtwork() != null) {
+                    artworkRepository.addViewCount(view.getArtwork().getId(), -1);
+                }
+            });
+    }
+
+    @Override
+    public void modifyMemberName(long id, String name) {
+        log.debug("Request to modify member name : {}", id);
+        memberNameRepository.renameAll(MemberNameRepository.Table.VIEW, id, name);
+    }
+
+    private static Long artworkId(ViewDTO viewDTO) {
+        return viewDTO.getArtwork() == null ? null : viewDTO.getArtwork().getId();
+    }
+
+    private static Long memberId(ViewDTO viewDTO) {
+        return viewDTO.getMember() == null ? null : viewDTO.getMember().getId();
     }
 }
@@ -62,6 +62,18 @@ public class Artwork implements Serializable {
     @Column(name = "status")
     private Status status;
 
+    /**
+     * Denormalized counters, maintained only through {@code ArtworkCounterRepository}.
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    private Long viewCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Long commentCount = 0L;
+
     @OneToMany(mappedBy = "artwork", cascade = CascadeType.ALL, orphanRemoval = true)
     @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     @JsonIgnoreProperties(value = { "artwork" }, allowSetters = true)
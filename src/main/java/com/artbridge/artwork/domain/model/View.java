@@ -3,6 +3,7 @@ package com.artbridge.artwork.domain.model;
 import com.artbridge.artwork.domain.vo.Member;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Objects;
 import javax.persistence.*;
 import lombok.*;
@@ -40,6 +41,9 @@ public class View implements Serializable {
     @JsonIgnoreProperties(value = { "comments", "views", "likes" }, allowSetters = true)
     private Artwork artwork;
 
+    @Column(name = "viewed_date", nullable = false, updatable = false)
+    private Instant viewedDate = Instant.now();
+
     public View id(Long id) {
         this.setId(id);
         return this;
@@ -55,6 +59,11 @@ public class View implements Serializable {
         return this;
     }
 
+    public View viewedDate(Instant viewedDate) {
+        this.setViewedDate(viewedDate);
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,211 @@
+package com.artbridge.artwork.infrastructure.cache;
+
+import com.artbridge.artwork.application.dto.ArtworkDTO;
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.topic.ITopic;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local cache of approved artwork details, in front of the Hibernate second level cache held by Hazelcast.
+ * <p>
+ * Entries are bounded in number and expire after a short time. When an artwork changes, it is evicted locally once
+ * the transaction commits and the eviction is published on a Hazelcast topic for the other nodes. The result of a
+ * load running while any artwork is evicted is returned but not cached, so a node never keeps a detail read before
+ * the change: the eviction counter is checked before the put and again after it, the entry being removed when an
+ * eviction slipped in between, since the eviction itself may have run before the put. If the topic is unavailable, the other nodes see the change when their entry expires.
+ * <p>
+ * Concurrent misses of the same artwork share a single load on each node. Optionally, the load also takes a
+ * Hazelcast lock on the artwork id, so that the nodes load it one after the other: the first one reads the database
+ * and fills the second level cache, which the next ones then read from. If the lock cannot be taken in time, the node
+ * loads the artwork without it.
+ * <p>
+ * Cached details are shared between callers and must not be modified.
+ */
+@Component
+public class ArtworkDetailCache {
+
+    public static final String TOPIC_NAME = "artwork-detail-invalidation";
+
+    public static final String LOAD_LOCKS_MAP_NAME = "artwork-detail-load-locks";
+
+    private final Logger log = LoggerFactory.getLogger(ArtworkDetailCache.class);
+
+    private final Cache<Long, ArtworkDTO> details;
+
+    private final ITopic<Long> invalidations;
+
+    private final SingleFlight<Long, ArtworkDTO> loads = new SingleFlight<>();
+
+    /**
+     * Incremented by every eviction, to detect the loads that ran concurrently with one.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final IMap<Long, Boolean> loadLocks;
+
+    private final ApplicationProperties.ArtworkCache properties;
+
+    private UUID listenerId;
+
+    public ArtworkDetailCache(@Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance, ApplicationProperties applicationProperties) {
+        this.properties = applicationProperties.getArtworkCache();
+        this.details =
+            Caffeine
+                .newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTimeToLiveSeconds()))
+                .build();
+        this.invalidations = hazelcastInstance.getTopic(TOPIC_NAME);
+        this.loadLocks = properties.isDistributedLoadLock() ? hazelcastInstance.getMap(LOAD_LOCKS_MAP_NAME) : null;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerId = invalidations.addMessageListener(message -> invalidate(message.getMessageObject()));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        try {
+            invalidations.removeMessageListener(listenerId);
+        } catch (RuntimeException e) {
+            log.debug("Could not unsubscribe from the artwork detail invalidations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get the detail of an artwork, loading it on a miss. Missing artworks are not cached.
+     *
+     * @param id     the id of the artwork.
+     * @param loader the loader of the detail, returning {@code null} if the artwork is missing.
+     * @return the detail, empty if the artwork is missing.
+     */
+    public Optional<ArtworkDTO> get(Long id, Function<Long, ArtworkDTO> loader) {
+        ArtworkDTO cached = details.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return Optional.ofNullable(loads.load(id, () -> load(id, loader)));
+    }
+
+    private ArtworkDTO load(Long id, Function<Long, ArtworkDTO> loader) {
+        long evictionsBefore = evictions.get();
+        ArtworkDTO loaded = loadLocks == null ? loader.apply(id) : loadLocked(id, loader);
+        if (loaded != null && evictions.get() == evictionsBefore) {
+            cache(id, loaded, evictionsBefore);
+        }
+        return loaded;
+    }
+
+    /**
+     * Cache a loaded detail, unless an eviction counted after {@code evictionsBefore} may have missed it.
+     */
+    private void cache(Long id, ArtworkDTO loaded, long evictionsBefore) {
+        details.put(id, loaded);
+        if (evictions.get() != evictionsBefore) {
+            details.asMap().remove(id, loaded);
+        }
+    }
+
+    private ArtworkDTO loadLocked(Long id, Function<Long, ArtworkDTO> loader) {
+        boolean locked = false;
+        try {
+            locked =
+                loadLocks.tryLock(
+                    id,
+                    properties.getLoadLockWaitMs(),
+                    TimeUnit.MILLISECONDS,
+                    properties.getLoadLockLeaseMs(),
+                    TimeUnit.MILLISECONDS
+                );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Could not lock the load of Artwork {}: {}", id, e.getMessage());
+        }
+        try {
+            return loader.apply(id);
+        } finally {
+            if (locked) {
+                unlock(id);
+            }
+        }
+    }
+
+    private void unlock(Long id) {
+        try {
+            loadLocks.unlock(id);
+        } catch (RuntimeException e) {
+            log.debug("Could not unlock the load of Artwork {}, the lease will release it: {}", id, e.getMessage());
+        }
+    }
+
+    private void invalidate(Long id) {
+        evictions.incrementAndGet();
+        details.invalidate(id);
+    }
+
+    /**
+     * Add the details of artworks loaded together, unless they are already cached. As for a miss, the details are not
+     * cached if any artwork was evicted while they were loaded.
+     *
+     * @param loader the loader of the details of approved artworks.
+     * @return the number of details added.
+     */
+    public int warm(Supplier<List<ArtworkDTO>> loader) {
+        long evictionsBefore = evictions.get();
+        List<ArtworkDTO> loaded = loader.get();
+        int added = 0;
+        for (ArtworkDTO artworkDTO : loaded) {
+            if (evictions.get() != evictionsBefore) {
+                log.debug("Skipped warming {} artwork details loaded during an eviction", loaded.size() - added);
+                break;
+            }
+            if (details.asMap().putIfAbsent(artworkDTO.getId(), artworkDTO) == null) {
+                if (evictions.get() != evictionsBefore) {
+                    details.asMap().remove(artworkDTO.getId(), artworkDTO);
+                    continue;
+                }
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Evict the detail of an artwork on all the nodes, once the current transaction commits.
+     *
+     * @param id the id of the artwork.
+     */
+    public void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            invalidate(id);
+            try {
+                invalidations.publish(id);
+            } catch (RuntimeException e) {
+                log.warn("Could not publish the eviction of Artwork {}: {}", id, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,234 @@
+package com.artbridge.artwork.infrastructure.cache;
+
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
+import com.artbridge.artwork.infrastructure.sketch.BloomFilter;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells the artwork ids that cannot exist, so that their lookups do not reach the database.
+ * <p>
+ * It combines a Bloom filter of all the artwork ids, built from the database once the application is ready and
+ * rebuilt every night, with a short lived cache of the ids found missing. Until the filter is built, only the cache
+ * is used. The filter is only trusted below the highest id it was built from, minus {@code idMargin}: artwork ids
+ * are generated by the database in increasing order but committed in any order, so an id near or above the highest one
+ * may belong to an artwork whose insert was not committed yet when the filter was built. Such ids are looked up in the
+ * database, a missing one being then remembered in the cache. An artwork created on a node is also added to the
+ * filter once the transaction commits, and the creation is published on a Hazelcast topic for the other nodes; the
+ * topic is best effort, a node missing a creation only looks the artwork up in the database instead.
+ * <p>
+ * Deleted artworks stay in the filter until the next rebuild, and are looked up in the database until then.
+ */
+@Component
+public class ArtworkExistenceFilter {
+
+    public static final String TOPIC_NAME = "artwork-creation";
+
+    private final Logger log = LoggerFactory.getLogger(ArtworkExistenceFilter.class);
+
+    private final ArtworkRepository artworkRepository;
+
+    private final ApplicationProperties.ArtworkExistence properties;
+
+    private final Cache<Long, Boolean> missing;
+
+    private final ITopic<Long> creations;
+
+    private volatile Snapshot current;
+
+    /**
+     * The filter being built, which also receives the ids created meanwhile.
+     */
+    private volatile BloomFilter next;
+
+    private UUID listenerId;
+
+    public ArtworkExistenceFilter(
+        ArtworkRepository artworkRepository,
+        @Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance,
+        ApplicationProperties applicationProperties
+    ) {
+        this.artworkRepository = artworkRepository;
+        this.properties = applicationProperties.getArtworkExistence();
+        this.missing =
+            Caffeine
+                .newBuilder()
+                .maximumSize(properties.getMissingMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getMissingTimeToLiveSeconds()))
+                .build();
+        this.creations = hazelcastInstance.getTopic(TOPIC_NAME);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerId = creations.addMessageListener(message -> added(message.getMessageObject()));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        try {
+            creations.removeMessageListener(listenerId);
+        } catch (RuntimeException e) {
+            log.debug("Could not unsubscribe from the artwork creations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether an artwork is known to be missing, without querying the database.
+     *
+     * @param id the id of the artwork.
+     * @return {@code true} if the artwork does not exist, {@code false} if it may exist.
+     */
+    public boolean isMissing(Long id) {
+        if (id == null) {
+            return true;
+        }
+        Snapshot snapshot = current;
+        return (snapshot != null && id <= snapshot.trustedMaxId && !snapshot.filter.mightContain(id)) || missing.getIfPresent(id) != null;
+    }
+
+    /**
+     * Check whether an artwork exists, querying the database only if it may exist.
+     *
+     * @param id     the id of the artwork.
+     * @param lookup the database lookup of the artwork.
+     * @return {@code true} if the artwork exists.
+     */
+    public boolean exists(Long id, Predicate<Long> lookup) {
+        if (isMissing(id)) {
+            return false;
+        }
+        if (lookup.test(id)) {
+            return true;
+        }
+        markMissing(id);
+        return false;
+    }
+
+    /**
+     * Remember that an artwork was found missing in the database.
+     *
+     * @param id the id of the artwork.
+     */
+    public void markMissing(Long id) {
+        if (id != null) {
+            missing.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Add a created artwork on all the nodes, once the current transaction commits.
+     *
+     * @param id the id of the artwork.
+     */
+    public void add(Long id) {
+        if (id == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            added(id);
+            try {
+                creations.publish(id);
+            } catch (RuntimeException e) {
+                log.warn("Could not publish the creation of Artwork {}: {}", id, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Remember that an artwork was deleted, once the current transaction commits.
+     *
+     * @param id the id of the artwork.
+     */
+    public void remove(Long id) {
+        if (id != null) {
+            TransactionCallbacks.afterCommit(() -> markMissing(id));
+        }
+    }
+
+    private void added(Long id) {
+        // The filter being built is read before the current one, so that an id is not missed when they are swapped.
+        BloomFilter building = next;
+        if (building != null) {
+            building.add(id);
+        }
+        Snapshot snapshot = current;
+        if (snapshot != null) {
+            snapshot.filter.add(id);
+        }
+        missing.invalidate(id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "UTC")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            long expected = Math.max(properties.getMinExpectedIds(), artworkRepository.count() * 2);
+            BloomFilter rebuilding = new BloomFilter(expected, properties.getFalsePositiveRate());
+            next = rebuilding;
+            long count = 0;
+            Long after = 0L;
+            List<Long> ids;
+            do {
+                ids = artworkRepository.findIdsByIdGreaterThan(after, PageRequest.of(0, properties.getPageSize()));
+                for (Long id : ids) {
+                    rebuilding.add(id);
+                }
+                count += ids.size();
+                if (!ids.isEmpty()) {
+                    after = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == properties.getPageSize());
+            current = new Snapshot(rebuilding, after - properties.getIdMargin());
+            log.info(
+                "Built the artwork existence filter of {} ids up to {} in {} bits in {} ms",
+                count,
+                after,
+                rebuilding.bitCount(),
+                System.currentTimeMillis() - start
+            );
+        } catch (RuntimeException e) {
+            log.warn("Could not build the artwork existence filter, keeping the current one: {}", e.getMessage());
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * A built filter, with the highest id it answers for.
+     */
+    private static final class Snapshot {
+
+        private final BloomFilter filter;
+
+        private final long trustedMaxId;
+
+        private Snapshot(BloomFilter filter, long trustedMaxId) {
+            this.filter = filter;
+            this.trustedMaxId = trustedMaxId;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.artbridge.artwork.infrastructure.cache;
+
+import com.artbridge.artwork.application.dto.ArtworkSummaryDTO;
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local cache of the first pages of the approved artwork feed, which is read with a JPQL projection that the second
+ * level cache does not hold.
+ * <p>
+ * Only the first {@code maxPages} pages of the default order are cached, both for the page-numbered and the cursor
+ * feed, and only for a short time, which bounds the staleness of their counters. Any change to the approved artworks
+ * or to their authors clears the cache once the transaction commits, and the change is published on a Hazelcast
+ * topic for the other nodes. As in {@link ArtworkDetailCache}, a page loaded while the cache is cleared is returned
+ * but not cached.
+ */
+@Component
+public class ArtworkFeedCache {
+
+    public static final String TOPIC_NAME = "artwork-feed-invalidation";
+
+    private final Logger log = LoggerFactory.getLogger(ArtworkFeedCache.class);
+
+    private final Cache<Key, Slice<ArtworkSummaryDTO>> pages;
+
+    private final ITopic<Boolean> invalidations;
+
+    private final SingleFlight<Key, Slice<ArtworkSummaryDTO>> loads = new SingleFlight<>();
+
+    /**
+     * Incremented by every clear, to detect the loads that ran concurrently with one.
+     */
+    private final AtomicLong clears = new AtomicLong();
+
+    private final ApplicationProperties.FeedCache properties;
+
+    private UUID listenerId;
+
+    public ArtworkFeedCache(@Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance, ApplicationProperties applicationProperties) {
+        this.properties = applicationProperties.getFeedCache();
+        this.pages =
+            Caffeine
+                .newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTimeToLiveSeconds()))
+                .build();
+        this.invalidations = hazelcastInstance.getTopic(TOPIC_NAME);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerId = invalidations.addMessageListener(message -> clear());
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        try {
+            invalidations.removeMessageListener(listenerId);
+        } catch (RuntimeException e) {
+            log.debug("Could not unsubscribe from the artwork feed invalidations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get a page of the feed, loading it on a miss.
+     *
+     * @param pageable the page.
+     * @param loader   the loader of the page.
+     * @return the page.
+     */
+    @SuppressWarnings("unchecked")
+    public Page<ArtworkSummaryDTO> page(Pageable pageable, Supplier<Page<ArtworkSummaryDTO>> loader) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted() || pageable.getPageNumber() >= properties.getMaxPages()) {
+            return loader.get();
+        }
+        return (Page<ArtworkSummaryDTO>) get(new Key(false, pageable.getPageNumber(), pageable.getPageSize()), loader::get);
+    }
+
+    /**
+     * Get the first slice of the cursor feed, loading it on a miss.
+     *
+     * @param size   the size of the slice.
+     * @param loader the loader of the slice.
+     * @return the slice.
+     */
+    public Slice<ArtworkSummaryDTO> first(int size, Supplier<Slice<ArtworkSummaryDTO>> loader) {
+        return get(new Key(true, 0, size), loader);
+    }
+
+    private Slice<ArtworkSummaryDTO> get(Key key, Supplier<Slice<ArtworkSummaryDTO>> loader) {
+        Slice<ArtworkSummaryDTO> cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.load(key, () -> load(key, loader));
+    }
+
+    private Slice<ArtworkSummaryDTO> load(Key key, Supplier<Slice<ArtworkSummaryDTO>> loader) {
+        long clearsBefore = clears.get();
+        Slice<ArtworkSummaryDTO> loaded = loader.get();
+        if (loaded != null && clears.get() == clearsBefore) {
+            pages.put(key, loaded);
+            // A clear between the check and the put may have run before the put.
+            if (clears.get() != clearsBefore) {
+                pages.asMap().remove(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void clear() {
+        clears.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    /**
+     * Clear the feed on all the nodes, once the current transaction commits.
+     */
+    public void evict() {
+        TransactionCallbacks.afterCommit(() -> {
+            clear();
+            try {
+                invalidations.publish(Boolean.TRUE);
+            } catch (RuntimeException e) {
+                log.warn("Could not publish the eviction of the artwork feed: {}", e.getMessage());
+            }
+        });
+    }
+
+    private static final class Key {
+
+        private final boolean cursor;
+
+        private final int page;
+
+        private final int size;
+
+        private Key(boolean cursor, int page, int size) {
+            this.cursor = cursor;
+            this.page = page;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return cursor == key.cursor && page == key.page && size == key.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cursor, page, size);
+        }
+    }
+}
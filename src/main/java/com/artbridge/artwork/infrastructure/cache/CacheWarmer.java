@@ -0,0 +1,185 @@
+package com.artbridge.artwork.infrastructure.cache;
+
+import com.artbridge.artwork.application.dto.ArtworkDTO;
+import com.artbridge.artwork.application.dto.ArtworkSummaryDTO;
+import com.artbridge.artwork.application.mapper.ArtworkMapper;
+import com.artbridge.artwork.application.usecase.ArtworkUsecase;
+import com.artbridge.artwork.domain.model.Artwork;
+import com.artbridge.artwork.domain.standardType.Status;
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Preloads the caches once the application is ready, so that the first requests after a deployment do not all miss.
+ * <p>
+ * The first pages of the approved feed, page-numbered and by cursor, are read through the {@link ArtworkUsecase}, which
+ * puts them in the {@link ArtworkFeedCache}. Their artworks and the most viewed approved artworks are then loaded by
+ * id, in batches run in parallel, which puts them in the second level cache, and their details are put in the
+ * {@link ArtworkDetailCache}, unless an artwork was evicted while their batch was loaded.
+ * The node is reported ready by {@link CacheWarmupHealthIndicator} only once the warm-up is over, whether it succeeded,
+ * failed or timed out.
+ */
+@Component
+public class CacheWarmer {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED,
+        TIMED_OUT,
+        DISABLED,
+    }
+
+    private final Logger log = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final ArtworkRepository artworkRepository;
+
+    private final ArtworkUsecase artworkUsecase;
+
+    private final ArtworkMapper artworkMapper;
+
+    private final ArtworkDetailCache artworkDetailCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.CacheWarmup properties;
+
+    private volatile State state = State.PENDING;
+
+    public CacheWarmer(
+        ArtworkRepository artworkRepository,
+        ArtworkUsecase artworkUsecase,
+        ArtworkMapper artworkMapper,
+        ArtworkDetailCache artworkDetailCache,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.artworkRepository = artworkRepository;
+        this.artworkUsecase = artworkUsecase;
+        this.artworkMapper = artworkMapper;
+        this.artworkDetailCache = artworkDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.properties = applicationProperties.getCacheWarmup();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Check whether the warm-up is over, successfully or not.
+     *
+     * @return {@code true} if the node can receive traffic.
+     */
+    public boolean isOver() {
+        return state != State.PENDING && state != State.RUNNING;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            state = State.DISABLED;
+            return;
+        }
+        state = State.RUNNING;
+        Thread thread = new Thread(this::warm, "cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void warm() {
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads(), new CustomizableThreadFactory("cache-warmup-"));
+        try {
+            List<List<Long>> batches = batches(artworkIdsToWarm());
+            List<Callable<Integer>> tasks = new ArrayList<>(batches.size());
+            batches.forEach(batch -> tasks.add(() -> warm(batch)));
+            List<Future<Integer>> results = executor.invokeAll(tasks, properties.getTimeoutSeconds(), TimeUnit.SECONDS);
+            int warmed = 0;
+            for (Future<Integer> result : results) {
+                if (result.isCancelled()) {
+                    log.warn("Cache warm-up timed out after {} seconds", properties.getTimeoutSeconds());
+                    state = State.TIMED_OUT;
+                    return;
+                }
+                warmed += result.get();
+            }
+            log.info("Warmed up the caches with {} artworks in {} ms", warmed, System.currentTimeMillis() - start);
+            state = State.DONE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = State.FAILED;
+        } catch (Exception e) {
+            log.warn("Cache warm-up failed, the caches will fill up with the traffic: {}", e.getMessage());
+            state = State.FAILED;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Set<Long> artworkIdsToWarm() {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (int page = 0; page < properties.getPages(); page++) {
+            List<ArtworkSummaryDTO> summaries = artworkUsecase.findAll(PageRequest.of(page, properties.getPageSize())).getContent();
+            summaries.forEach(summary -> ids.add(summary.getId()));
+            if (summaries.size() < properties.getPageSize()) {
+                break;
+            }
+        }
+        artworkUsecase.findAllAfter(null, properties.getPageSize());
+        if (properties.getMostViewed() > 0) {
+            ids.addAll(artworkRepository.findIdsByStatusOrderByViewCountDesc(Status.OK, PageRequest.of(0, properties.getMostViewed())));
+        }
+        return ids;
+    }
+
+    private List<List<Long>> batches(Set<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        List<Long> batch = new ArrayList<>(properties.getBatchSize());
+        for (Long id : ids) {
+            batch.add(id);
+            if (batch.size() == properties.getBatchSize()) {
+                batches.add(batch);
+                batch = new ArrayList<>(properties.getBatchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private int warm(List<Long> ids) {
+        return artworkDetailCache.warm(() ->
+            transactionTemplate.execute(status -> {
+                List<ArtworkDTO> details = new ArrayList<>(ids.size());
+                for (Artwork artwork : artworkRepository.findAllById(ids)) {
+                    if (artwork.getStatus() == Status.OK) {
+                        details.add(artworkMapper.toDto(artwork));
+                    }
+                }
+                return details;
+            })
+        );
+    }
+}
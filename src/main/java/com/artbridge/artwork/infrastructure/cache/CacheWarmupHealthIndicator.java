@@ -0,0 +1,25 @@
+package com.artbridge.artwork.infrastructure.cache;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the node out of service while {@link CacheWarmer} is preloading the caches. It is part of the readiness
+ * health group, so no traffic is routed to the node before the warm-up is over.
+ */
+@Component
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    public CacheWarmupHealthIndicator(CacheWarmer cacheWarmer) {
+        this.cacheWarmer = cacheWarmer;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = cacheWarmer.isOver() ? Health.up() : Health.outOfService();
+        return builder.withDetail("state", cacheWarmer.getState()).build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.artbridge.artwork.infrastructure.cache;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+
+/**
+ * Hazelcast serializer of the entries of the collection regions ({@code Artwork.comments}, {@code .likes} and
+ * {@code .views}).
+ * <p>
+ * hazelcast-hibernate writes entity entries field by field, but leaves {@link CollectionCacheEntry} to Java
+ * serialization, which writes the class descriptors of the entry, of its array and of {@link Long} with every value:
+ * 945 bytes for a collection of 50 ids. The state of these collections is the array of the element ids, so it is
+ * written as a {@code long[]} instead (438 bytes for the same collection), and other states element by element.
+ */
+public class CollectionCacheEntrySerializer implements StreamSerializer<CollectionCacheEntry> {
+
+    public static final int TYPE_ID = 1001;
+
+    private static final byte LONG_STATE = 0;
+    private static final byte OBJECT_STATE = 1;
+
+    private static final Constructor<CollectionCacheEntry> CONSTRUCTOR = stateConstructor();
+
+    @Override
+    public int getTypeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public void write(ObjectDataOutput out, CollectionCacheEntry entry) throws IOException {
+        Serializable[] state = entry.getState();
+        long[] ids = toLongs(state);
+        if (ids != null) {
+            out.writeByte(LONG_STATE);
+            out.writeLongArray(ids);
+        } else {
+            out.writeByte(OBJECT_STATE);
+            out.writeInt(state.length);
+            for (Serializable element : state) {
+                out.writeObject(element);
+            }
+        }
+    }
+
+    @Override
+    public CollectionCacheEntry read(ObjectDataInput in) throws IOException {
+        Serializable[] state;
+        if (in.readByte() == LONG_STATE) {
+            long[] ids = in.readLongArray();
+            state = new Serializable[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                state[i] = ids[i];
+            }
+        } else {
+            state = new Serializable[in.readInt()];
+            for (int i = 0; i < state.length; i++) {
+                state[i] = in.readObject();
+            }
+        }
+        try {
+            return CONSTRUCTOR.newInstance((Object) state);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IOException("Cannot create a collection cache entry", e);
+        }
+    }
+
+    /**
+     * The state as an array of longs, or {@code null} when one of its elements is not a {@link Long}.
+     */
+    private static long[] toLongs(Serializable[] state) {
+        long[] ids = new long[state.length];
+        for (int i = 0; i < state.length; i++) {
+            if (!(state[i] instanceof Long)) {
+                return null;
+            }
+            ids[i] = (Long) state[i];
+        }
+        return ids;
+    }
+
+    /**
+     * Hibernate only builds entries from a persistent collection publicly; the constructor from a disassembled state is
+     * package-private.
+     */
+    private static Constructor<CollectionCacheEntry> stateConstructor() {
+        try {
+            Constructor<CollectionCacheEntry> constructor = CollectionCacheEntry.class.getDeclaredConstructor(Serializable.class);
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("CollectionCacheEntry has no state constructor", e);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.artbridge.artwork.infrastructure.configuration;
 
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import java.nio.file.Paths;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,7 +14,1040 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final LikeCounter likeCounter = new LikeCounter();
+
+    private final ViewIngestion viewIngestion = new ViewIngestion();
+
+    private final UniqueViewers uniqueViewers = new UniqueViewers();
+
+    private final ViewDedup viewDedup = new ViewDedup();
+
+    private final ViewRollup viewRollup = new ViewRollup();
+
+    private final Trending trending = new Trending();
+
+    private final ArtworkCache artworkCache = new ArtworkCache();
+
+    private final FeedCache feedCache = new FeedCache();
+
+    private final CacheRegions cacheRegions = new CacheRegions();
+
+    private final CacheWarmup cacheWarmup = new CacheWarmup();
+
+    private final ArtworkExistence artworkExistence = new ArtworkExistence();
+
+    private final Outbox outbox = new Outbox();
+
+    private final MemberDirectory memberDirectory = new MemberDirectory();
+
     // jhipster-needle-application-properties-property
+
+    public LikeCounter getLikeCounter() {
+        return likeCounter;
+    }
+
+    public ViewIngestion getViewIngestion() {
+        return viewIngestion;
+    }
+
+    public UniqueViewers getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public ViewDedup getViewDedup() {
+        return viewDedup;
+    }
+
+    public ViewRollup getViewRollup() {
+        return viewRollup;
+    }
+
+    public Trending getTrending() {
+        return trending;
+    }
+
+    public ArtworkCache getArtworkCache() {
+        return artworkCache;
+    }
+
+    public FeedCache getFeedCache() {
+        return feedCache;
+    }
+
+    public CacheRegions getCacheRegions() {
+        return cacheRegions;
+    }
+
+    public CacheWarmup getCacheWarmup() {
+        return cacheWarmup;
+    }
+
+    public ArtworkExistence getArtworkExistence() {
+        return artworkExistence;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public MemberDirectory getMemberDirectory() {
+        return memberDirectory;
+    }
+
     // jhipster-needle-application-properties-property-getter
+
+    public static class LikeCounter {
+
+        /**
+         * Delay in milliseconds between two flushes of the buffered like deltas.
+         */
+        private long flushIntervalMs = 1000;
+
+        /**
+         * File the pending deltas are written to when the final flush on shutdown fails, re-applied on the next start.
+         * It should be specific to the instance and on a persistent volume; blank to lose such deltas.
+         */
+        private String spillFile = Paths.get(System.getProperty("java.io.tmpdir"), "artwork", "like-deltas.properties").toString();
+
+        /**
+         * Maximum number of artworks with pending deltas, reached when flushes fail. The deltas of other artworks are
+         * then dropped.
+         */
+        private int maxPendingArtworks = 100000;
+
+        /**
+         * Maximum number of stored like counts kept in the local cache of each node.
+         */
+        private long storedMaxEntries = 100000;
+
+        /**
+         * Time in milliseconds after which a cached stored like count is reloaded, which bounds how long the deltas
+         * flushed by the other nodes are not counted.
+         */
+        private long storedTimeToLiveMs = 5000;
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public long getStoredMaxEntries() {
+            return storedMaxEntries;
+        }
+
+        public void setStoredMaxEntries(long storedMaxEntries) {
+            this.storedMaxEntries = storedMaxEntries;
+        }
+
+        public long getStoredTimeToLiveMs() {
+            return storedTimeToLiveMs;
+        }
+
+        public void setStoredTimeToLiveMs(long storedTimeToLiveMs) {
+            this.storedTimeToLiveMs = storedTimeToLiveMs;
+        }
+
+        public String getSpillFile() {
+            return spillFile;
+        }
+
+        public void setSpillFile(String spillFile) {
+            this.spillFile = spillFile;
+        }
+
+        public int getMaxPendingArtworks() {
+            return maxPendingArtworks;
+        }
+
+        public void setMaxPendingArtworks(int maxPendingArtworks) {
+            this.maxPendingArtworks = maxPendingArtworks;
+        }
+    }
+
+    public static class ViewIngestion {
+
+        /**
+         * Maximum number of view events waiting to be written. Events received when the buffer is full are rejected.
+         */
+        private int capacity = 10000;
+
+        /**
+         * Delay in milliseconds between two drains of the buffered view events.
+         */
+        private long drainIntervalMs = 500;
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public long getDrainIntervalMs() {
+            return drainIntervalMs;
+        }
+
+        public void setDrainIntervalMs(long drainIntervalMs) {
+            this.drainIntervalMs = drainIntervalMs;
+        }
+    }
+
+    public static class UniqueViewers {
+
+        /**
+         * Delay in milliseconds between two merges of the local unique viewer sketches into the database.
+         */
+        private long flushIntervalMs = 10000;
+
+        /**
+         * Maximum number of local sketches waiting to be merged, reached when merges fail. The views of other artworks
+         * and days are then dropped from the unique viewers.
+         */
+        private int maxPendingSketches = 20000;
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public int getMaxPendingSketches() {
+            return maxPendingSketches;
+        }
+
+        public void setMaxPendingSketches(int maxPendingSketches) {
+            this.maxPendingSketches = maxPendingSketches;
+        }
+    }
+
+    public static class ViewDedup {
+
+        /**
+         * Time in seconds during which repeated views of an artwork by the same member are dropped.
+         */
+        private long windowSeconds = 1800;
+
+        /**
+         * Maximum number of (artwork, member) pairs remembered by each node.
+         */
+        private int maxEntriesPerNode = 100000;
+
+        public long getWindowSeconds() {
+            return windowSeconds;
+        }
+
+        public void setWindowSeconds(long windowSeconds) {
+            this.windowSeconds = windowSeconds;
+        }
+
+        public int getMaxEntriesPerNode() {
+            return maxEntriesPerNode;
+        }
+
+        public void setMaxEntriesPerNode(int maxEntriesPerNode) {
+            this.maxEntriesPerNode = maxEntriesPerNode;
+        }
+    }
+
+    public static class ViewRollup {
+
+        /**
+         * Delay in milliseconds between two rollups of the raw views into view_hourly.
+         */
+        private long intervalMs = 300000;
+
+        /**
+         * Time in seconds after the end of an hour during which late views are still expected, before the hour is rolled up.
+         */
+        private long graceSeconds = 300;
+
+        /**
+         * Number of hours already rolled up that are checked for late views, and rolled up again when they got some.
+         */
+        private int lateHours = 24;
+
+        /**
+         * Number of days raw views are kept once they are rolled up.
+         */
+        private int retentionDays = 30;
+
+        /**
+         * Maximum number of raw views deleted per transaction by the compaction.
+         */
+        private int compactionChunkSize = 1000;
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public long getGraceSeconds() {
+            return graceSeconds;
+        }
+
+        public void setGraceSeconds(long graceSeconds) {
+            this.graceSeconds = graceSeconds;
+        }
+
+        public int getLateHours() {
+            return lateHours;
+        }
+
+        public void setLateHours(int lateHours) {
+            this.lateHours = lateHours;
+        }
+
+        public int getRetentionDays() {
+            return retentionDays;
+        }
+
+        public void setRetentionDays(int retentionDays) {
+            this.retentionDays = retentionDays;
+        }
+
+        public int getCompactionChunkSize() {
+            return compactionChunkSize;
+        }
+
+        public void setCompactionChunkSize(int compactionChunkSize) {
+            this.compactionChunkSize = compactionChunkSize;
+        }
+    }
+
+    public static class Trending {
+
+        /**
+         * Time in hours after which the weight of an event in the trending score is halved.
+         */
+        private double halfLifeHours = 24;
+
+        private double likeWeight = 3;
+
+        private double commentWeight = 5;
+
+        private double viewWeight = 1;
+
+        /**
+         * Number of artworks kept in the trending ranking.
+         */
+        private int size = 100;
+
+        /**
+         * Delay in milliseconds between two refreshes of the trending ranking.
+         */
+        private long refreshIntervalMs = 5000;
+
+        /**
+         * Number of days of views read from the database when the scores are rebuilt.
+         */
+        private int seedDays = 7;
+
+        public double getHalfLifeHours() {
+            return halfLifeHours;
+        }
+
+        public void setHalfLifeHours(double halfLifeHours) {
+            this.halfLifeHours = halfLifeHours;
+        }
+
+        public double getLikeWeight() {
+            return likeWeight;
+        }
+
+        public void setLikeWeight(double likeWeight) {
+            this.likeWeight = likeWeight;
+        }
+
+        public double getCommentWeight() {
+            return commentWeight;
+        }
+
+        public void setCommentWeight(double commentWeight) {
+            this.commentWeight = commentWeight;
+        }
+
+        public double getViewWeight() {
+            return viewWeight;
+        }
+
+        public void setViewWeight(double viewWeight) {
+            this.viewWeight = viewWeight;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public long getRefreshIntervalMs() {
+            return refreshIntervalMs;
+        }
+
+        public void setRefreshIntervalMs(long refreshIntervalMs) {
+            this.refreshIntervalMs = refreshIntervalMs;
+        }
+
+        public int getSeedDays() {
+            return seedDays;
+        }
+
+        public void setSeedDays(int seedDays) {
+            this.seedDays = seedDays;
+        }
+    }
+
+    public static class ArtworkCache {
+
+        /**
+         * Maximum number of artwork details kept in the local cache of each node.
+         */
+        private long maxEntries = 10000;
+
+        /**
+         * Time in seconds after which a cached artwork detail is reloaded, which bounds the staleness of its counters.
+         */
+        private long timeToLiveSeconds = 60;
+
+        /**
+         * Whether the nodes take a Hazelcast lock on an artwork before loading it, so that only one of them reads it
+         * from the database at a time.
+         */
+        private boolean distributedLoadLock = false;
+
+        /**
+         * Time in milliseconds a node waits for the load lock before loading the artwork without it.
+         */
+        private long loadLockWaitMs = 2000;
+
+        /**
+         * Time in milliseconds after which a load lock is released, even if its node did not release it.
+         */
+        private long loadLockLeaseMs = 5000;
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        public boolean isDistributedLoadLock() {
+            return distributedLoadLock;
+        }
+
+        public void setDistributedLoadLock(boolean distributedLoadLock) {
+            this.distributedLoadLock = distributedLoadLock;
+        }
+
+        public long getLoadLockWaitMs() {
+            return loadLockWaitMs;
+        }
+
+        public void setLoadLockWaitMs(long loadLockWaitMs) {
+            this.loadLockWaitMs = loadLockWaitMs;
+        }
+
+        public long getLoadLockLeaseMs() {
+            return loadLockLeaseMs;
+        }
+
+        public void setLoadLockLeaseMs(long loadLockLeaseMs) {
+            this.loadLockLeaseMs = loadLockLeaseMs;
+        }
+    }
+
+    public static class FeedCache {
+
+        /**
+         * Number of first pages of the approved artwork feed cached on each node.
+         */
+        private int maxPages = 5;
+
+        /**
+         * Maximum number of feed pages kept in the local cache of each node, across the page sizes.
+         */
+        private long maxEntries = 100;
+
+        /**
+         * Time in seconds after which a cached feed page is reloaded, which bounds the staleness of its counters.
+         */
+        private long timeToLiveSeconds = 10;
+
+        public int getMaxPages() {
+            return maxPages;
+        }
+
+        public void setMaxPages(int maxPages) {
+            this.maxPages = maxPages;
+        }
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+    }
+
+    /**
+     * Hazelcast maps backing the Hibernate second level cache regions.
+     */
+    public static class CacheRegions {
+
+        /**
+         * Maximum size of the default map, used by the caches without a configuration of their own.
+         */
+        private int defaultMaxSizeMb = 64;
+
+        private final CacheRegion artwork = new CacheRegion();
+
+        private final CacheRegion comment = new CacheRegion();
+
+        private final CacheRegion like = new CacheRegion();
+
+        private final CacheRegion view = new CacheRegion();
+
+        private final CacheRegion artworkComments = new CacheRegion();
+
+        private final CacheRegion artworkLikes = new CacheRegion();
+
+        private final CacheRegion artworkViews = new CacheRegion();
+
+        public int getDefaultMaxSizeMb() {
+            return defaultMaxSizeMb;
+        }
+
+        public void setDefaultMaxSizeMb(int defaultMaxSizeMb) {
+            this.defaultMaxSizeMb = defaultMaxSizeMb;
+        }
+
+        public CacheRegion getArtwork() {
+            return artwork;
+        }
+
+        public CacheRegion getComment() {
+            return comment;
+        }
+
+        public CacheRegion getLike() {
+            return like;
+        }
+
+        public CacheRegion getView() {
+            return view;
+        }
+
+        public CacheRegion getArtworkComments() {
+            return artworkComments;
+        }
+
+        public CacheRegion getArtworkLikes() {
+            return artworkLikes;
+        }
+
+        public CacheRegion getArtworkViews() {
+            return artworkViews;
+        }
+    }
+
+    public static class CacheRegion {
+
+        /**
+         * Maximum size of the map, interpreted according to {@link #maxSizePolicy}.
+         */
+        private int maxSize = 10000;
+
+        private MaxSizePolicy maxSizePolicy = MaxSizePolicy.PER_NODE;
+
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+        /**
+         * Number of synchronous backups, from 0 (no backup) to 6.
+         */
+        private int backupCount = 1;
+
+        /**
+         * Time in seconds an entry is kept after it is written, 0 for no limit.
+         */
+        private int timeToLiveSeconds = 3600;
+
+        /**
+         * Time in seconds an entry is kept after it is last read, 0 for no limit.
+         */
+        private int maxIdleSeconds = 0;
+
+        private InMemoryFormat inMemoryFormat = InMemoryFormat.BINARY;
+
+        private final NearCache nearCache = new NearCache();
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public MaxSizePolicy getMaxSizePolicy() {
+            return maxSizePolicy;
+        }
+
+        public void setMaxSizePolicy(MaxSizePolicy maxSizePolicy) {
+            this.maxSizePolicy = maxSizePolicy;
+        }
+
+        public EvictionPolicy getEvictionPolicy() {
+            return evictionPolicy;
+        }
+
+        public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+        }
+
+        public int getBackupCount() {
+            return backupCount;
+        }
+
+        public void setBackupCount(int backupCount) {
+            this.backupCount = backupCount;
+        }
+
+        public int getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        public int getMaxIdleSeconds() {
+            return maxIdleSeconds;
+        }
+
+        public void setMaxIdleSeconds(int maxIdleSeconds) {
+            this.maxIdleSeconds = maxIdleSeconds;
+        }
+
+        public InMemoryFormat getInMemoryFormat() {
+            return inMemoryFormat;
+        }
+
+        public void setInMemoryFormat(InMemoryFormat inMemoryFormat) {
+            this.inMemoryFormat = inMemoryFormat;
+        }
+
+        public NearCache getNearCache() {
+            return nearCache;
+        }
+    }
+
+    public static class NearCache {
+
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of entries in the near cache of each node.
+         */
+        private int maxSize = 1000;
+
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+        /**
+         * Time in seconds a near cache entry is kept after it is written, 0 for no limit.
+         */
+        private int timeToLiveSeconds = 0;
+
+        /**
+         * Time in seconds a near cache entry is kept after it is last read, 0 for no limit.
+         */
+        private int maxIdleSeconds = 0;
+
+        /**
+         * Format of the near cache entries; OBJECT avoids deserializing on every read.
+         */
+        private InMemoryFormat inMemoryFormat = InMemoryFormat.OBJECT;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public EvictionPolicy getEvictionPolicy() {
+            return evictionPolicy;
+        }
+
+        public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+        }
+
+        public int getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        public int getMaxIdleSeconds() {
+            return maxIdleSeconds;
+        }
+
+        public void setMaxIdleSeconds(int maxIdleSeconds) {
+            this.maxIdleSeconds = maxIdleSeconds;
+        }
+
+        public InMemoryFormat getInMemoryFormat() {
+            return inMemoryFormat;
+        }
+
+        public void setInMemoryFormat(InMemoryFormat inMemoryFormat) {
+            this.inMemoryFormat = inMemoryFormat;
+        }
+    }
+
+    public static class CacheWarmup {
+
+        private boolean enabled = true;
+
+        /**
+         * Number of pages of the approved feed whose artworks are preloaded.
+         */
+        private int pages = 5;
+
+        private int pageSize = 20;
+
+        /**
+         * Number of most viewed approved artworks whose details are preloaded.
+         */
+        private int mostViewed = 100;
+
+        /**
+         * Number of artworks loaded by each query.
+         */
+        private int batchSize = 20;
+
+        /**
+         * Number of batches loaded in parallel.
+         */
+        private int threads = 4;
+
+        /**
+         * Time in seconds after which the warm-up is abandoned and the node reported ready anyway.
+         */
+        private long timeoutSeconds = 120;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public void setPages(int pages) {
+            this.pages = pages;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getMostViewed() {
+            return mostViewed;
+        }
+
+        public void setMostViewed(int mostViewed) {
+            this.mostViewed = mostViewed;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public long getTimeoutSeconds() {
+            return timeoutSeconds;
+        }
+
+        public void setTimeoutSeconds(long timeoutSeconds) {
+            this.timeoutSeconds = timeoutSeconds;
+        }
+    }
+
+    public static class ArtworkExistence {
+
+        /**
+         * Minimum number of ids the existence filter is sized for; it is sized for twice the number of artworks if
+         * that is more.
+         */
+        private long minExpectedIds = 100000;
+
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * Number of ids read by each query when the filter is built.
+         */
+        private int pageSize = 10000;
+
+        /**
+         * Number of ids below the highest one read by a build that the filter does not answer for, because their
+         * inserts may not have been committed yet when it was built.
+         */
+        private long idMargin = 1000;
+
+        /**
+         * Maximum number of ids found missing that are remembered.
+         */
+        private long missingMaxEntries = 100000;
+
+        /**
+         * Time in seconds an id found missing is remembered.
+         */
+        private long missingTimeToLiveSeconds = 30;
+
+        public long getMinExpectedIds() {
+            return minExpectedIds;
+        }
+
+        public void setMinExpectedIds(long minExpectedIds) {
+            this.minExpectedIds = minExpectedIds;
+        }
+
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public long getIdMargin() {
+            return idMargin;
+        }
+
+        public void setIdMargin(long idMargin) {
+            this.idMargin = idMargin;
+        }
+
+        public long getMissingMaxEntries() {
+            return missingMaxEntries;
+        }
+
+        public void setMissingMaxEntries(long missingMaxEntries) {
+            this.missingMaxEntries = missingMaxEntries;
+        }
+
+        public long getMissingTimeToLiveSeconds() {
+            return missingTimeToLiveSeconds;
+        }
+
+        public void setMissingTimeToLiveSeconds(long missingTimeToLiveSeconds) {
+            this.missingTimeToLiveSeconds = missingTimeToLiveSeconds;
+        }
+    }
+
+    public static class Outbox {
+
+        /**
+         * Maximum number of messages read and sent at once.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Delay in milliseconds between two polls of the unsent messages.
+         */
+        private long pollIntervalMs = 500;
+
+        /**
+         * Time in milliseconds to wait for the acknowledgement of a batch; the unacknowledged messages are retried.
+         */
+        private long sendTimeoutMs = 10000;
+
+        /**
+         * Delay in milliseconds before retrying after a failed publication, doubled after each failure.
+         */
+        private long initialBackoffMs = 1000;
+
+        private long maxBackoffMs = 60000;
+
+        /**
+         * Number of publications of a message rejected by Kafka after which it is parked. Failures that Kafka reports
+         * as retriable, such as timeouts, do not park a message.
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * Time in milliseconds after which the relay lock of a node is released, even if it did not release it.
+         */
+        private long lockLeaseMs = 60000;
+
+        /**
+         * Time in hours sent messages are kept before they are purged.
+         */
+        private int retentionHours = 24;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getPollIntervalMs() {
+            return pollIntervalMs;
+        }
+
+        public void setPollIntervalMs(long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+        }
+
+        public long getSendTimeoutMs() {
+            return sendTimeoutMs;
+        }
+
+        public void setSendTimeoutMs(long sendTimeoutMs) {
+            this.sendTimeoutMs = sendTimeoutMs;
+        }
+
+        public long getInitialBackoffMs() {
+            return initialBackoffMs;
+        }
+
+        public void setInitialBackoffMs(long initialBackoffMs) {
+            this.initialBackoffMs = initialBackoffMs;
+        }
+
+        public long getMaxBackoffMs() {
+            return maxBackoffMs;
+        }
+
+        public void setMaxBackoffMs(long maxBackoffMs) {
+            this.maxBackoffMs = maxBackoffMs;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getLockLeaseMs() {
+            return lockLeaseMs;
+        }
+
+        public void setLockLeaseMs(long lockLeaseMs) {
+            this.lockLeaseMs = lockLeaseMs;
+        }
+
+        public int getRetentionHours() {
+            return retentionHours;
+        }
+
+        public void setRetentionHours(int retentionHours) {
+            this.retentionHours = retentionHours;
+        }
+    }
+
+    public static class MemberDirectory {
+
+        /**
+         * Time in seconds after which a member name received from the member service is considered stale, and
+         * requested again on the next write of the member.
+         */
+        private int timeToLiveSeconds = 86400;
+
+        /**
+         * Maximum number of members kept in the directory on each node.
+         */
+        private int maxEntriesPerNode = 100000;
+
+        public int getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        public int getMaxEntriesPerNode() {
+            return maxEntriesPerNode;
+        }
+
+        public void setMaxEntriesPerNode(int maxEntriesPerNode) {
+            this.maxEntriesPerNode = maxEntriesPerNode;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
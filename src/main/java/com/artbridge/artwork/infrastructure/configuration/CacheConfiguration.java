@@ -1,10 +1,19 @@
 package com.artbridge.artwork.infrastructure.configuration;
 
+import com.artbridge.artwork.domain.model.Artwork;
+import com.artbridge.artwork.domain.model.Comment;
+import com.artbridge.artwork.domain.model.Like;
+import com.artbridge.artwork.domain.model.View;
+import com.artbridge.artwork.infrastructure.cache.CollectionCacheEntrySerializer;
+import com.artbridge.artwork.infrastructure.ingestion.ViewDeduplicator;
+import com.artbridge.artwork.infrastructure.messaging.MemberDirectory;
 import com.hazelcast.config.*;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import java.util.List;
 import javax.annotation.PreDestroy;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +38,23 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    public static final String ARTWORK_COMMENTS_REGION = Artwork.class.getName() + ".comments";
+    public static final String ARTWORK_LIKES_REGION = Artwork.class.getName() + ".likes";
+    public static final String ARTWORK_VIEWS_REGION = Artwork.class.getName() + ".views";
+
+    /**
+     * Names of the Hibernate second level cache regions, which are also the names of their Hazelcast maps.
+     */
+    public static final List<String> HIBERNATE_REGIONS = List.of(
+        Artwork.class.getName(),
+        Comment.class.getName(),
+        Like.class.getName(),
+        View.class.getName(),
+        ARTWORK_COMMENTS_REGION,
+        ARTWORK_LIKES_REGION,
+        ARTWORK_VIEWS_REGION
+    );
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
 
@@ -66,7 +92,7 @@ public class CacheConfiguration {
     }
 
     @Bean
-    public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties) {
+    public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         log.debug("Configuring Hazelcast");
         HazelcastInstance hazelCastInstance = Hazelcast.getHazelcastInstanceByName("Artwork");
         if (hazelCastInstance != null) {
@@ -107,12 +133,27 @@ public class CacheConfiguration {
             }
         }
         config.setManagementCenterConfig(new ManagementCenterConfig());
-        config.addMapConfig(initializeDefaultMapConfig(jHipsterProperties));
+        config
+            .getSerializationConfig()
+            .addSerializerConfig(
+                new SerializerConfig().setTypeClass(CollectionCacheEntry.class).setImplementation(new CollectionCacheEntrySerializer())
+            );
+        config.addMapConfig(initializeDefaultMapConfig(jHipsterProperties, applicationProperties));
         config.addMapConfig(initializeDomainMapConfig(jHipsterProperties));
+        ApplicationProperties.CacheRegions cacheRegions = applicationProperties.getCacheRegions();
+        config.addMapConfig(initializeRegionMapConfig(Artwork.class.getName(), cacheRegions.getArtwork()));
+        config.addMapConfig(initializeRegionMapConfig(Comment.class.getName(), cacheRegions.getComment()));
+        config.addMapConfig(initializeRegionMapConfig(Like.class.getName(), cacheRegions.getLike()));
+        config.addMapConfig(initializeRegionMapConfig(View.class.getName(), cacheRegions.getView()));
+        config.addMapConfig(initializeRegionMapConfig(ARTWORK_COMMENTS_REGION, cacheRegions.getArtworkComments()));
+        config.addMapConfig(initializeRegionMapConfig(ARTWORK_LIKES_REGION, cacheRegions.getArtworkLikes()));
+        config.addMapConfig(initializeRegionMapConfig(ARTWORK_VIEWS_REGION, cacheRegions.getArtworkViews()));
+        config.addMapConfig(initializeViewDedupMapConfig(applicationProperties));
+        config.addMapConfig(initializeMemberDirectoryMapConfig(applicationProperties));
         return Hazelcast.newHazelcastInstance(config);
     }
 
-    private MapConfig initializeDefaultMapConfig(JHipsterProperties jHipsterProperties) {
+    private MapConfig initializeDefaultMapConfig(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         MapConfig mapConfig = new MapConfig("default");
 
         /*
@@ -138,6 +179,7 @@ public class CacheConfiguration {
         Integer.MAX_VALUE. Default is 0.
         */
         mapConfig.getEvictionConfig().setMaxSizePolicy(MaxSizePolicy.USED_HEAP_SIZE);
+        mapConfig.getEvictionConfig().setSize(applicationProperties.getCacheRegions().getDefaultMaxSizeMb());
 
         return mapConfig;
     }
@@ -148,6 +190,65 @@ public class CacheConfiguration {
         return mapConfig;
     }
 
+    /**
+     * Map of a Hibernate second level cache region. Entity regions are named after the entity class and collection
+     * regions after the collection role, and take precedence over the {@code com.artbridge.artwork.domain.*} wildcard.
+     */
+    private MapConfig initializeRegionMapConfig(String regionName, ApplicationProperties.CacheRegion region) {
+        MapConfig mapConfig = new MapConfig(regionName);
+        mapConfig.setBackupCount(region.getBackupCount());
+        mapConfig.setTimeToLiveSeconds(region.getTimeToLiveSeconds());
+        mapConfig.setMaxIdleSeconds(region.getMaxIdleSeconds());
+        mapConfig.setInMemoryFormat(region.getInMemoryFormat());
+        mapConfig.getEvictionConfig().setEvictionPolicy(region.getEvictionPolicy());
+        mapConfig.getEvictionConfig().setMaxSizePolicy(region.getMaxSizePolicy());
+        mapConfig.getEvictionConfig().setSize(region.getMaxSize());
+
+        ApplicationProperties.NearCache nearCache = region.getNearCache();
+        if (nearCache.isEnabled()) {
+            NearCacheConfig nearCacheConfig = new NearCacheConfig(regionName);
+            nearCacheConfig.setInMemoryFormat(nearCache.getInMemoryFormat());
+            nearCacheConfig.setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds());
+            nearCacheConfig.setMaxIdleSeconds(nearCache.getMaxIdleSeconds());
+            // Entries written on any node are removed from the near caches of the others.
+            nearCacheConfig.setInvalidateOnChange(true);
+            nearCacheConfig.getEvictionConfig().setEvictionPolicy(nearCache.getEvictionPolicy());
+            nearCacheConfig.getEvictionConfig().setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT);
+            nearCacheConfig.getEvictionConfig().setSize(nearCache.getMaxSize());
+            mapConfig.setNearCacheConfig(nearCacheConfig);
+        }
+
+        return mapConfig;
+    }
+
+    private MapConfig initializeViewDedupMapConfig(ApplicationProperties applicationProperties) {
+        MapConfig mapConfig = new MapConfig(ViewDeduplicator.MAP_NAME);
+        ApplicationProperties.ViewDedup viewDedup = applicationProperties.getViewDedup();
+
+        // Losing a few entries only lets a few duplicate views through, so no backup is kept.
+        mapConfig.setBackupCount(0);
+        mapConfig.setTimeToLiveSeconds((int) viewDedup.getWindowSeconds());
+        mapConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.LRU);
+        mapConfig.getEvictionConfig().setMaxSizePolicy(MaxSizePolicy.PER_NODE);
+        mapConfig.getEvictionConfig().setSize(viewDedup.getMaxEntriesPerNode());
+
+        return mapConfig;
+    }
+
+    private MapConfig initializeMemberDirectoryMapConfig(ApplicationProperties applicationProperties) {
+        MapConfig mapConfig = new MapConfig(MemberDirectory.MAP_NAME);
+        ApplicationProperties.MemberDirectory memberDirectory = applicationProperties.getMemberDirectory();
+
+        // A lost entry only makes the next write of the member request its name again, so no backup is kept.
+        mapConfig.setBackupCount(0);
+        mapConfig.setTimeToLiveSeconds(memberDirectory.getTimeToLiveSeconds());
+        mapConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.LRU);
+        mapConfig.getEvictionConfig().setMaxSizePolicy(MaxSizePolicy.PER_NODE);
+        mapConfig.getEvictionConfig().setSize(memberDirectory.getMaxEntriesPerNode());
+
+        return mapConfig;
+    }
+
     @Autowired(required = false)
     public void setGitProperties(GitProperties gitProperties) {
         this.gitProperties = gitProperties;
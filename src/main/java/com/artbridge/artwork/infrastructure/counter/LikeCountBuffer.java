@@ -0,0 +1,299 @@
+package com.artbridge.artwork.infrastructure.counter;
+
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind buffer in front of the {@code artwork.like_count} column.
+ * <p>
+ * Like and unlike deltas are accumulated per artwork in a {@link LongAdder} once the like row transaction commits,
+ * and flushed to the database in one batch on a schedule. The entries are added and removed atomically, and an entry
+ * is removed once its delta is flushed.
+ * <p>
+ * The number of artworks with pending deltas is bounded, for the buffer not to grow for the whole of a database
+ * outage. Once the bound is hit, the deltas of the artworks not already pending are dropped and counted.
+ * <p>
+ * Counts are read from a short lived local cache of the stored counts plus the pending deltas. The stored count of an
+ * artwork is evicted once this node flushed its deltas, and the deltas flushed by the other nodes are seen when it
+ * expires.
+ * <p>
+ * If the final flush on shutdown fails, the pending deltas are spilled to the configured file, under
+ * {@code java.io.tmpdir} by default, and re-applied on the next start. The file should be specific to the instance and
+ * kept on a persistent volume in production. Deltas are still lost if the node stops without a shutdown, up to those
+ * of the last flush interval, or of the whole database outage if flushes are failing.
+ */
+@Component
+public class LikeCountBuffer {
+
+    public static final String LIKE_DELTAS_METER_NAME = "artwork.like.deltas";
+    public static final String LIKE_DELTAS_METER_DESCRIPTION = "Indicates the like count deltas the buffer could not keep.";
+    public static final String LIKE_DELTAS_METER_RESULT_DIMENSION = "result";
+    public static final String LIKE_DELTAS_PENDING_METER_NAME = "artwork.like.deltas.pending";
+
+    private final Logger log = LoggerFactory.getLogger(LikeCountBuffer.class);
+
+    private final ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The like counts stored in the database, by artwork id.
+     */
+    private final Cache<Long, Long> stored;
+
+    private final ArtworkRepository artworkRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Path spillFile;
+
+    private final int maxPendingArtworks;
+
+    /**
+     * Set once a delta is dropped, and cleared by the next successful flush, so that an outage is logged once.
+     */
+    private final AtomicBoolean overflowing = new AtomicBoolean();
+
+    private final Counter droppedCounter;
+
+    public LikeCountBuffer(
+        ArtworkRepository artworkRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        ApplicationProperties.LikeCounter properties = applicationProperties.getLikeCounter();
+        this.artworkRepository = artworkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stored =
+            Caffeine
+                .newBuilder()
+                .maximumSize(properties.getStoredMaxEntries())
+                .expireAfterWrite(Duration.ofMillis(properties.getStoredTimeToLiveMs()))
+                .build();
+        String spillFile = properties.getSpillFile();
+        this.spillFile = spillFile == null || spillFile.isBlank() ? null : Paths.get(spillFile);
+        this.maxPendingArtworks = properties.getMaxPendingArtworks();
+        this.droppedCounter =
+            Counter
+                .builder(LIKE_DELTAS_METER_NAME)
+                .baseUnit("deltas")
+                .description(LIKE_DELTAS_METER_DESCRIPTION)
+                .tag(LIKE_DELTAS_METER_RESULT_DIMENSION, "dropped")
+                .register(registry);
+        Gauge
+            .builder(LIKE_DELTAS_PENDING_METER_NAME, pending, Map::size)
+            .description("Number of artworks with like count deltas waiting to be written.")
+            .register(registry);
+    }
+
+    /**
+     * Buffer a like count delta, applied once the current transaction commits. The delta is dropped if the artwork has
+     * no pending delta and the number of pending artworks reached its bound.
+     *
+     * @param artworkId the id of the artwork.
+     * @param delta     the delta to add, {@code 1} for a like and {@code -1} for an unlike.
+     */
+    public void add(Long artworkId, long delta) {
+        if (artworkId == null || delta == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            if (pending.size() >= maxPendingArtworks && !pending.containsKey(artworkId)) {
+                drop(artworkId, delta);
+                return;
+            }
+            restore(artworkId, delta);
+        });
+    }
+
+    private void drop(Long artworkId, long delta) {
+        droppedCounter.increment();
+        if (overflowing.compareAndSet(false, true)) {
+            log.error("Dropping like count deltas, {} artworks already have pending deltas", maxPendingArtworks);
+        }
+        log.debug("Dropped like count delta {} of artwork {}", delta, artworkId);
+    }
+
+    /**
+     * Get the like count of an artwork, including the deltas not flushed yet by this node.
+     *
+     * @param artworkId the id of the artwork.
+     * @return the like count.
+     */
+    public Long count(Long artworkId) {
+        return stored.get(artworkId, id -> artworkRepository.findLikeCountById(id).orElse(0L)) + pendingDelta(artworkId);
+    }
+
+    /**
+     * Get the like counts of several artworks, including the deltas not flushed yet by this node. The counts missing
+     * from the cache are read in a single query. Unknown artworks are counted as {@code 0}.
+     *
+     * @param artworkIds the ids of the artworks.
+     * @return the like counts by artwork id, in the order of {@code artworkIds}.
+     */
+    public Map<Long, Long> counts(Collection<Long> artworkIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (artworkIds.isEmpty()) {
+            return counts;
+        }
+        Map<Long, Long> storedCounts = stored.getAll(artworkIds, this::loadStored);
+        for (Long artworkId : artworkIds) {
+            counts.put(artworkId, storedCounts.getOrDefault(artworkId, 0L) + pendingDelta(artworkId));
+        }
+        return counts;
+    }
+
+    private Map<Long, Long> loadStored(Iterable<? extends Long> artworkIds) {
+        Map<Long, Long> loaded = new HashMap<>();
+        artworkIds.forEach(id -> loaded.put(id, 0L));
+        for (Object[] row : artworkRepository.findLikeCountsByIdIn(loaded.keySet())) {
+            loaded.put((Long) row[0], (Long) row[1]);
+        }
+        return loaded;
+    }
+
+    /**
+     * Get the delta not flushed yet by this node.
+     *
+     * @param artworkId the id of the artwork.
+     * @return the pending delta.
+     */
+    public long pendingDelta(Long artworkId) {
+        LongAdder adder = pending.get(artworkId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Write the pending deltas to the database. They stay pending, and counted, until the write commits; the stored
+     * counts of their artworks are then evicted before the deltas are removed, along with the entries left empty.
+     */
+    @Scheduled(fixedDelayString = "${application.like-counter.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> artworkRepository.addLikeCounts(deltas));
+        } catch (RuntimeException e) {
+            log.warn("Could not flush like count deltas, they will be retried: {}", e.getMessage());
+            return;
+        }
+        stored.invalidateAll(deltas.keySet());
+        deltas.forEach((id, delta) -> restore(id, -delta));
+        overflowing.set(false);
+        log.debug("Flushed like count deltas for {} artworks", deltas.size());
+    }
+
+    @PostConstruct
+    public void loadSpilledDeltas() {
+        if (spillFile == null || !Files.exists(spillFile)) {
+            return;
+        }
+        // Claimed by a move first, so that the deltas are applied once even if another instance reads the same file.
+        Path claimed = spillFile.resolveSibling(spillFile.getFileName() + ".restoring");
+        try {
+            Files.move(spillFile, claimed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Could not claim the like count deltas spilled to {}", spillFile, e);
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(claimed)) {
+            properties.load(reader);
+            properties.forEach((id, delta) -> restore(Long.valueOf(id.toString()), Long.parseLong(delta.toString())));
+            Files.delete(claimed);
+            log.info("Restored like count deltas for {} artworks from {}", properties.size(), spillFile);
+        } catch (IOException | NumberFormatException e) {
+            log.error("Could not restore like count deltas from {}", claimed, e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (spillFile == null) {
+            log.error("Lost like count deltas {}, no spill file is configured", deltas);
+            return;
+        }
+        Properties properties = new Properties();
+        deltas.forEach((id, delta) -> properties.setProperty(id.toString(), delta.toString()));
+        try {
+            if (spillFile.getParent() != null) {
+                Files.createDirectories(spillFile.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(spillFile)) {
+                properties.store(writer, "Pending like count deltas");
+            }
+            log.warn("Spilled like count deltas for {} artworks to {}", deltas.size(), spillFile);
+        } catch (IOException e) {
+            log.error("Lost like count deltas {}", deltas, e);
+        }
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * Add a delta to the pending one of an artwork, and remove the entry if the result is zero. The entry is updated
+     * under the lock of the map, so that a delta is never added to an entry being removed.
+     */
+    private void restore(Long artworkId, long delta) {
+        pending.compute(
+            artworkId,
+            (id, adder) -> {
+                LongAdder updated = adder == null ? new LongAdder() : adder;
+                updated.add(delta);
+                return updated.sum() == 0 ? null : updated;
+            }
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.artbridge.artwork.infrastructure.ingestion;
+
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops repeated views of the same artwork by the same member within a time window.
+ * <p>
+ * The (artwork, member) pairs seen recently are kept in a Hazelcast map shared by all the nodes, each entry expiring
+ * at the end of its window. The map is bounded per node (see {@code CacheConfiguration}); when it is full, the least
+ * recently used pairs are evicted early and their next view is counted again. Anonymous views are never deduplicated.
+ */
+@Component
+public class ViewDeduplicator {
+
+    public static final String MAP_NAME = "view-dedup";
+
+    private final Logger log = LoggerFactory.getLogger(ViewDeduplicator.class);
+
+    private final IMap<String, Boolean> recentViews;
+
+    private final long windowSeconds;
+
+    public ViewDeduplicator(@Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance, ApplicationProperties applicationProperties) {
+        this.recentViews = hazelcastInstance.getMap(MAP_NAME);
+        this.windowSeconds = applicationProperties.getViewDedup().getWindowSeconds();
+    }
+
+    /**
+     * Register a view, unless the member already viewed the artwork within the window.
+     * If Hazelcast is unavailable the view is let through.
+     *
+     * @param artworkId the id of the viewed artwork.
+     * @param memberId  the id of the viewer, may be {@code null}.
+     * @return {@code true} if the view is the first one within the window, {@code false} if it is a duplicate.
+     */
+    public boolean register(Long artworkId, Long memberId) {
+        if (artworkId == null || memberId == null) {
+            return true;
+        }
+        try {
+            return recentViews.putIfAbsent(key(artworkId, memberId), Boolean.TRUE, windowSeconds, TimeUnit.SECONDS) == null;
+        } catch (RuntimeException e) {
+            log.warn("Could not deduplicate the view of Artwork {}: {}", artworkId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Forget a registered view, so that it is counted again, for example when it could not be recorded.
+     *
+     * @param artworkId the id of the viewed artwork.
+     * @param memberId  the id of the viewer, may be {@code null}.
+     */
+    public void forget(Long artworkId, Long memberId) {
+        if (artworkId == null || memberId == null) {
+            return;
+        }
+        try {
+            recentViews.delete(key(artworkId, memberId));
+        } catch (RuntimeException e) {
+            log.warn("Could not forget the view of Artwork {}: {}", artworkId, e.getMessage());
+        }
+    }
+
+    private static String key(Long artworkId, Long memberId) {
+        return artworkId + ":" + memberId;
+    }
+}
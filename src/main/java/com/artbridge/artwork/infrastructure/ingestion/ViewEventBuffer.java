@@ -0,0 +1,225 @@
+package com.artbridge.artwork.infrastructure.ingestion;
+
+import com.artbridge.artwork.domain.model.View;
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
+import com.artbridge.artwork.infrastructure.repository.ViewRepository;
+import com.artbridge.artwork.infrastructure.sketch.UniqueViewerSketches;
+import com.artbridge.artwork.infrastructure.trending.TrendingScores;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bounded in-memory buffer for view events.
+ * <p>
+ * Events are accepted without touching the database and drained on a schedule: the views are written with JDBC batch
+ * inserts and the {@code artwork.view_count} deltas are applied once per artwork, all in one transaction per drain.
+ * When the buffer is full, new events are rejected so that callers can back off instead of piling up memory.
+ * Each drain writes at most one round of {@code 10 * batch_size} events, so that a busy buffer does not hold a
+ * scheduler thread. If the round fails because an artwork was deleted meanwhile, the events of the deleted artworks are
+ * dropped and the others written once more; if it fails otherwise (for example during a database outage), the round is
+ * kept and written first by the next drain, and new events are rejected once the buffer is full.
+ * <p>
+ * The events dropped, those of deleted artworks and those still buffered when the application stops, are forgotten by
+ * the {@link ViewDeduplicator}, so that the same views are counted if they are sent again.
+ */
+@Component
+public class ViewEventBuffer {
+
+    public static final String VIEW_EVENTS_METER_NAME = "artwork.view.events";
+    public static final String VIEW_EVENTS_METER_DESCRIPTION = "Indicates the outcome of the view events received by the ingestion buffer.";
+    public static final String VIEW_EVENTS_METER_RESULT_DIMENSION = "result";
+    public static final String VIEW_EVENTS_BUFFERED_METER_NAME = "artwork.view.events.buffered";
+
+    private final Logger log = LoggerFactory.getLogger(ViewEventBuffer.class);
+
+    private final BlockingQueue<View> queue;
+
+    private final ViewRepository viewRepository;
+
+    private final ArtworkRepository artworkRepository;
+
+    private final UniqueViewerSketches uniqueViewerSketches;
+
+    private final TrendingScores trendingScores;
+
+    private final ViewDeduplicator viewDeduplicator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    /**
+     * Events of a failed round, written before the buffered ones.
+     */
+    private final List<View> retained = new ArrayList<>();
+
+    private final Counter acceptedCounter;
+    private final Counter droppedCounter;
+    private final Counter persistedCounter;
+    private final Counter failedCounter;
+
+    public ViewEventBuffer(
+        ViewRepository viewRepository,
+        ArtworkRepository artworkRepository,
+        UniqueViewerSketches uniqueViewerSketches,
+        TrendingScores trendingScores,
+        ViewDeduplicator viewDeduplicator,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize
+    ) {
+        this.queue = new ArrayBlockingQueue<>(applicationProperties.getViewIngestion().getCapacity());
+        this.viewRepository = viewRepository;
+        this.artworkRepository = artworkRepository;
+        this.uniqueViewerSketches = uniqueViewerSketches;
+        this.trendingScores = trendingScores;
+        this.viewDeduplicator = viewDeduplicator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.acceptedCounter = viewEventsCounterForResultBuilder("accepted").register(registry);
+        this.droppedCounter = viewEventsCounterForResultBuilder("dropped").register(registry);
+        this.persistedCounter = viewEventsCounterForResultBuilder("persisted").register(registry);
+        this.failedCounter = viewEventsCounterForResultBuilder("failed").register(registry);
+        Gauge
+            .builder(VIEW_EVENTS_BUFFERED_METER_NAME, queue, BlockingQueue::size)
+            .description("Number of view events waiting to be written.")
+            .register(registry);
+    }
+
+    private Counter.Builder viewEventsCounterForResultBuilder(String result) {
+        return Counter
+            .builder(VIEW_EVENTS_METER_NAME)
+            .baseUnit("events")
+            .description(VIEW_EVENTS_METER_DESCRIPTION)
+            .tag(VIEW_EVENTS_METER_RESULT_DIMENSION, result);
+    }
+
+    /**
+     * Buffer a view event without blocking.
+     *
+     * @param view the view to write, with an artwork id.
+     * @return {@code true} if the event was accepted, {@code false} if the buffer is full.
+     */
+    public boolean offer(View view) {
+        if (queue.offer(view)) {
+            acceptedCounter.increment();
+            return true;
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${application.view-ingestion.drain-interval-ms:500}")
+    public synchronized void drain() {
+        List<View> views = new ArrayList<>(retained);
+        retained.clear();
+        queue.drainTo(views, batchSize * 10 - views.size());
+        if (!views.isEmpty()) {
+            write(views);
+        }
+    }
+
+    /**
+     * Write the buffered events round by round until the buffer is empty or a round fails, then drop the events left.
+     */
+    @PreDestroy
+    public synchronized void destroy() {
+        do {
+            drain();
+        } while (retained.isEmpty() && !queue.isEmpty());
+        List<View> left = new ArrayList<>(retained);
+        retained.clear();
+        queue.drainTo(left);
+        if (!left.isEmpty()) {
+            log.error("Dropped {} view events still buffered on shutdown", left.size());
+            left.forEach(this::drop);
+        }
+    }
+
+    private void write(List<View> views) {
+        try {
+            persist(views);
+        } catch (DataIntegrityViolationException e) {
+            log.warn(
+                "Could not write a batch of {} view events, dropping the events of deleted artworks: {}",
+                views.size(),
+                e.getMessage()
+            );
+            writeExisting(views);
+        } catch (RuntimeException e) {
+            log.warn("Could not write a batch of {} view events, keeping them for the next drain: {}", views.size(), e.getMessage());
+            retained.addAll(views);
+        }
+    }
+
+    private void writeExisting(List<View> views) {
+        try {
+            Set<Long> existing = transactionTemplate.execute(status -> artworkRepository.findExistingIds(countsByArtwork(views).keySet()));
+            List<View> kept = new ArrayList<>(views.size());
+            for (View view : views) {
+                if (existing.contains(view.getArtwork().getId())) {
+                    kept.add(view);
+                } else {
+                    drop(view);
+                }
+            }
+            if (kept.size() < views.size()) {
+                log.warn("Dropped {} view events of deleted artworks", views.size() - kept.size());
+            }
+            persist(kept);
+        } catch (RuntimeException e) {
+            log.warn("Could not write a batch of {} view events, keeping them for the next drain: {}", views.size(), e.getMessage());
+            retained.addAll(views);
+        }
+    }
+
+    private void drop(View view) {
+        failedCounter.increment();
+        viewDeduplicator.forget(view.getArtwork().getId(), memberId(view));
+    }
+
+    private void persist(List<View> views) {
+        transactionTemplate.executeWithoutResult(status -> insert(views));
+        persistedCounter.increment(views.size());
+        views.forEach(this::addUniqueViewer);
+        countsByArtwork(views).forEach(trendingScores::addViews);
+    }
+
+    private void addUniqueViewer(View view) {
+        uniqueViewerSketches.add(view.getArtwork().getId(), memberId(view));
+    }
+
+    private static Long memberId(View view) {
+        return view.getMember() == null ? null : view.getMember().getId();
+    }
+
+    private void insert(List<View> views) {
+        viewRepository.insertAll(views, batchSize);
+        artworkRepository.addViewCounts(countsByArtwork(views));
+    }
+
+    private static Map<Long, Long> countsByArtwork(List<View> views) {
+        Map<Long, Long> counts = new HashMap<>();
+        views.forEach(view -> counts.merge(view.getArtwork().getId(), 1L, Long::sum));
+        return counts;
+    }
+}
@@ -0,0 +1,190 @@
+package com.artbridge.artwork.infrastructure.management;
+
+import com.artbridge.artwork.infrastructure.configuration.CacheConfiguration;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.nearcache.NearCacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hits, misses, puts and entry counts of each cache region, for the second level cache regions and the
+ * caches of the Spring {@link CacheManager}.
+ * <p>
+ * Hits, misses and puts of a second level cache region are the ones seen by Hibernate on this node, which needs
+ * {@code hibernate.generate_statistics}; for the Spring caches they come from the Hazelcast map. Entries are the ones
+ * of the Hazelcast map owned by this node, and the near cache counts are only reported when the region has one.
+ * Hazelcast does not count the evictions and expirations of a map. Every number is published with a {@code region} tag.
+ */
+@Component
+public class CacheRegionMetrics implements MeterBinder {
+
+    public static final String METER_PREFIX = "cache.region.";
+    public static final String REGION_DIMENSION = "region";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final Statistics hibernateStatistics;
+
+    private final CacheManager cacheManager;
+
+    public CacheRegionMetrics(
+        @Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance,
+        EntityManagerFactory entityManagerFactory,
+        CacheManager cacheManager
+    ) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : regions()) {
+            counter(registry, region, "hits", "Number of lookups found in the region.", RegionStats::getHits);
+            counter(registry, region, "misses", "Number of lookups not found in the region.", RegionStats::getMisses);
+            counter(registry, region, "puts", "Number of entries put in the region.", RegionStats::getPuts);
+            Gauge
+                .builder(METER_PREFIX + "entries", this, statistics -> statistics.snapshot(region).getEntries())
+                .description("Number of entries of the region owned by this node.")
+                .tag(REGION_DIMENSION, region)
+                .register(registry);
+            Gauge
+                .builder(METER_PREFIX + "hit.ratio", this, statistics -> hitRatio(statistics.snapshot(region)))
+                .description("Share of the lookups found in the region.")
+                .tag(REGION_DIMENSION, region)
+                .register(registry);
+        }
+    }
+
+    private static double hitRatio(RegionStats stats) {
+        Double hitRatio = stats.getHitRatio();
+        return hitRatio == null ? Double.NaN : hitRatio;
+    }
+
+    private void counter(MeterRegistry registry, String region, String name, String description, ToDoubleFunction<RegionStats> value) {
+        FunctionCounter
+            .builder(METER_PREFIX + name, this, statistics -> value.applyAsDouble(statistics.snapshot(region)))
+            .description(description)
+            .tag(REGION_DIMENSION, region)
+            .register(registry);
+    }
+
+    /**
+     * Get the names of the regions: the second level cache regions, then the Spring caches.
+     *
+     * @return the names of the regions.
+     */
+    public List<String> regions() {
+        List<String> regions = new ArrayList<>(CacheConfiguration.HIBERNATE_REGIONS);
+        regions.addAll(cacheManager.getCacheNames());
+        return regions;
+    }
+
+    /**
+     * Get the statistics of all the regions.
+     *
+     * @return the statistics by region name.
+     */
+    public Map<String, RegionStats> snapshot() {
+        Map<String, RegionStats> snapshot = new LinkedHashMap<>();
+        regions().forEach(region -> snapshot.put(region, snapshot(region)));
+        return snapshot;
+    }
+
+    /**
+     * Get the statistics of a region.
+     *
+     * @param region the name of the region.
+     * @return the statistics of the region.
+     */
+    public RegionStats snapshot(String region) {
+        IMap<Object, Object> map = hazelcastInstance.getMap(region);
+        LocalMapStats mapStats = map.getLocalMapStats();
+        RegionStats stats = new RegionStats();
+        stats.entries = mapStats.getOwnedEntryCount();
+        CacheRegionStatistics hibernateRegion = CacheConfiguration.HIBERNATE_REGIONS.contains(region)
+            ? hibernateStatistics.getDomainDataRegionStatistics(region)
+            : null;
+        if (hibernateRegion != null) {
+            stats.hits = hibernateRegion.getHitCount();
+            stats.misses = hibernateRegion.getMissCount();
+            stats.puts = hibernateRegion.getPutCount();
+        } else {
+            stats.hits = mapStats.getHits();
+            stats.misses = Math.max(0, mapStats.getGetOperationCount() - mapStats.getHits());
+            stats.puts = mapStats.getPutOperationCount() + mapStats.getSetOperationCount();
+        }
+        NearCacheStats nearCacheStats = mapStats.getNearCacheStats();
+        if (nearCacheStats != null) {
+            stats.nearCacheHits = nearCacheStats.getHits();
+            stats.nearCacheMisses = nearCacheStats.getMisses();
+            stats.nearCacheEntries = nearCacheStats.getOwnedEntryCount();
+        }
+        return stats;
+    }
+
+    public static class RegionStats {
+
+        private long hits;
+        private long misses;
+        private long puts;
+        private long entries;
+        private Long nearCacheHits;
+        private Long nearCacheMisses;
+        private Long nearCacheEntries;
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Get the share of the lookups found in the region.
+         *
+         * @return the hit ratio, {@code null} if there was no lookup yet.
+         */
+        public Double getHitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? null : (double) hits / lookups;
+        }
+
+        public long getPuts() {
+            return puts;
+        }
+
+        public long getEntries() {
+            return entries;
+        }
+
+        public Long getNearCacheHits() {
+            return nearCacheHits;
+        }
+
+        public Long getNearCacheMisses() {
+            return nearCacheMisses;
+        }
+
+        public Long getNearCacheEntries() {
+            return nearCacheEntries;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.artbridge.artwork.infrastructure.management;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /management/cacheregions} endpoint, showing the statistics of each cache region on this node.
+ */
+@Component
+@Endpoint(id = "cacheregions")
+public class CacheRegionsEndpoint {
+
+    private final CacheRegionMetrics cacheRegionMetrics;
+
+    public CacheRegionsEndpoint(CacheRegionMetrics cacheRegionMetrics) {
+        this.cacheRegionMetrics = cacheRegionMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, CacheRegionMetrics.RegionStats> regions() {
+        return cacheRegionMetrics.snapshot();
+    }
+
+    @ReadOperation
+    public CacheRegionMetrics.RegionStats region(@Selector String region) {
+        if (!cacheRegionMetrics.regions().contains(region)) {
+            return null;
+        }
+        return cacheRegionMetrics.snapshot(region);
+    }
+}
@@ -2,47 +2,120 @@ package com.artbridge.artwork.infrastructure.messaging;
 
 import com.artbridge.artwork.application.usecase.ArtworkUsecase;
 import com.artbridge.artwork.application.usecase.CommentUsecase;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.artbridge.artwork.application.usecase.LikeUsecase;
+import com.artbridge.artwork.application.usecase.ViewUsecase;
+import com.artbridge.artwork.domain.vo.Member;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Applies the member names published by the member service, a batch of records at a time.
+ * <p>
+ * When a member is renamed several times within a batch, only the name of the latest record is applied. The names are
+ * first added to the {@link MemberDirectory}, which rejects the ones older than a name already received, and the
+ * accepted ones are then applied in one transaction, so a failing batch is retried as a whole; applying a name twice
+ * is harmless. Storing the names before applying them lets a write that read the previous name from the directory
+ * notice the change once it commits, see {@link MemberProducerImpl#resolveMemberName}.
+ * Records that cannot be read are logged and skipped, so that they do not block the ones behind them.
+ */
 @Slf4j
 @Service
 public class MemberConsumer {
 
     private final ArtworkUsecase artworkUsecase;
     private final CommentUsecase commentUsecase;
+    private final LikeUsecase likeUsecase;
+    private final ViewUsecase viewUsecase;
+    private final MemberDirectory memberDirectory;
+
+    private final ObjectReader reader;
+
+    private final TransactionTemplate transactionTemplate;
 
     private static final String TOPIC_MEMBER_NAME_REQUEST = "member-name";
 
-    public MemberConsumer(ArtworkUsecase artworkUsecase, CommentUsecase commentUsecase) {
+    public MemberConsumer(
+        ArtworkUsecase artworkUsecase,
+        CommentUsecase commentUsecase,
+        LikeUsecase likeUsecase,
+        ViewUsecase viewUsecase,
+        MemberDirectory memberDirectory,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager
+    ) {
         this.artworkUsecase = artworkUsecase;
         this.commentUsecase = commentUsecase;
+        this.likeUsecase = likeUsecase;
+        this.viewUsecase = viewUsecase;
+        this.memberDirectory = memberDirectory;
+        this.reader = objectMapper.readerFor(JsonNode.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
 
-    @KafkaListener(topics = TOPIC_MEMBER_NAME_REQUEST, groupId = "my-group")
-    public void processMessage(String MemberNameDTOStr) {
-        log.info("MemberConsumer: {}", MemberNameDTOStr);
-
-        Map<Object, Object> map = new HashMap<>();
-        ObjectMapper mapper = new ObjectMapper();
-
-
-        try {
-            map = mapper.readValue(MemberNameDTOStr, new TypeReference<Map<Object, Object>>() {});
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+    @KafkaListener(topics = TOPIC_MEMBER_NAME_REQUEST, groupId = "my-group", batch = "true")
+    public void processMessages(List<ConsumerRecord<String, String>> records) {
+        Map<Long, MemberDirectory.Entry> received = coalesce(records);
+        if (received.isEmpty()) {
+            return;
+        }
+        Map<Long, Member> members = memberDirectory.putAllIfNotOlder(received);
+        if (members.isEmpty()) {
+            return;
         }
+        transactionTemplate.executeWithoutResult(status ->
+            members.forEach((id, member) -> {
+                artworkUsecase.modifyMemberName(id, member.getName());
+                commentUsecase.modifyMemberName(id, member.getName());
+                likeUsecase.modifyMemberName(id, member.getName());
+                viewUsecase.modifyMemberName(id, member.getName());
+            })
+        );
+        log.info("MemberConsumer: applied {} member names from {} records", members.size(), records.size());
+    }
 
-        artworkUsecase.modifyMemberName(Long.parseLong(map.get("id").toString()), map.get("name").toString());
-        commentUsecase.modifyMemberName(Long.parseLong(map.get("id").toString()), map.get("name").toString());
-        log.info("MemberNameRequestConsumer: {}", map.get("id"));
+    /**
+     * Read the records of a batch, keeping the latest name of each member.
+     */
+    private Map<Long, MemberDirectory.Entry> coalesce(List<ConsumerRecord<String, String>> records) {
+        Map<Long, MemberDirectory.Entry> members = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            String memberNameDTOStr = record.value();
+            try {
+                JsonNode node = reader.readTree(memberNameDTOStr);
+                JsonNode id = node == null ? null : node.get("id");
+                JsonNode name = node == null ? null : node.get("name");
+                if (id == null || id.isNull() || name == null || name.isNull()) {
+                    log.warn("MemberConsumer: skipping invalid record {}", memberNameDTOStr);
+                    continue;
+                }
+                Member member = new Member();
+                member.setId(Long.parseLong(id.asText()));
+                member.setLogin(node.hasNonNull("login") ? node.get("login").asText() : null);
+                member.setName(name.asText());
+                MemberDirectory.Entry previous = members.get(member.getId());
+                if (previous != null && previous.getVersion() > record.timestamp()) {
+                    continue;
+                }
+                // Moved to the end, so that the names are applied in the order of their last record.
+                members.remove(member.getId());
+                members.put(member.getId(), new MemberDirectory.Entry(member, record.timestamp()));
+            } catch (IOException | NumberFormatException e) {
+                log.warn("MemberConsumer: skipping unreadable record {}: {}", memberNameDTOStr, e.getMessage());
+            }
+        }
+        return members;
     }
 }
@@ -0,0 +1,154 @@
+package com.artbridge.artwork.infrastructure.messaging;
+
+import com.artbridge.artwork.domain.vo.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * The members whose name was received recently from the member service, so that their name does not have to be
+ * requested again on each of their writes.
+ * <p>
+ * The members are kept in a Hazelcast map shared by all the nodes, each entry expiring after a while so that a name
+ * missed on the topic is requested again eventually (see {@code CacheConfiguration}). If Hazelcast is unavailable,
+ * the members are looked up as unknown and their name is requested.
+ * <p>
+ * Each entry carries the timestamp of the Kafka record its name came from, and a name is only stored if it is not
+ * older than the one already known, so that a reply delivered late does not bring back a previous name.
+ */
+@Component
+public class MemberDirectory {
+
+    public static final String MAP_NAME = "member-directory";
+
+    public static final String LOOKUPS_METER_NAME = "artwork.member.directory.lookups";
+    public static final String LOOKUPS_METER_DESCRIPTION = "Indicates whether the name of a member was found in the member directory.";
+    public static final String LOOKUPS_METER_RESULT_DIMENSION = "result";
+
+    private final Logger log = LoggerFactory.getLogger(MemberDirectory.class);
+
+    private final IMap<Long, Entry> members;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public MemberDirectory(@Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance, MeterRegistry registry) {
+        this.members = hazelcastInstance.getMap(MAP_NAME);
+        this.hitCounter = lookupsCounterForResultBuilder("hit").register(registry);
+        this.missCounter = lookupsCounterForResultBuilder("miss").register(registry);
+    }
+
+    private Counter.Builder lookupsCounterForResultBuilder(String result) {
+        return Counter
+            .builder(LOOKUPS_METER_NAME)
+            .baseUnit("lookups")
+            .description(LOOKUPS_METER_DESCRIPTION)
+            .tag(LOOKUPS_METER_RESULT_DIMENSION, result);
+    }
+
+    /**
+     * Find a member whose name was received recently.
+     *
+     * @param id the id of the member.
+     * @return the entry of the member, empty if its name is unknown or stale.
+     */
+    public Optional<Entry> find(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Entry entry = null;
+        try {
+            entry = members.get(id);
+        } catch (RuntimeException e) {
+            log.warn("Could not look up Member {} in the directory: {}", id, e.getMessage());
+        }
+        (entry == null ? missCounter : hitCounter).increment();
+        return Optional.ofNullable(entry);
+    }
+
+    /**
+     * Remember the names received from the member service, unless a later name of the same member is already known.
+     *
+     * @param received the entries, by member id.
+     * @return the members whose name was stored, or could not be compared, by id: the names to apply.
+     */
+    public Map<Long, Member> putAllIfNotOlder(Map<Long, Entry> received) {
+        Map<Long, Member> accepted = new LinkedHashMap<>();
+        received.forEach((id, entry) -> {
+            try {
+                if (members.executeOnKey(id, new PutIfNotOlder(entry))) {
+                    accepted.put(id, entry.getMember());
+                } else {
+                    log.debug("Ignored a name of Member {} older than the known one", id);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not store Member {} in the directory: {}", id, e.getMessage());
+                accepted.put(id, entry.getMember());
+            }
+        });
+        return accepted;
+    }
+
+    /**
+     * A member name received from the member service.
+     */
+    public static final class Entry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Member member;
+
+        private final long version;
+
+        /**
+         * @param member  the member, with its name.
+         * @param version the timestamp of the Kafka record the name came from.
+         */
+        public Entry(Member member, long version) {
+            this.member = member;
+            this.version = version;
+        }
+
+        public Member getMember() {
+            return member;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * Stores an entry unless the stored one is newer; an entry of the same version is stored again, so that a batch
+     * retried after a failure is applied again.
+     */
+    private static final class PutIfNotOlder implements EntryProcessor<Long, Entry, Boolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Entry entry;
+
+        private PutIfNotOlder(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Boolean process(Map.Entry<Long, Entry> stored) {
+            if (stored.getValue() != null && stored.getValue().getVersion() > entry.getVersion()) {
+                return false;
+            }
+            stored.setValue(entry);
+            return true;
+        }
+    }
+}
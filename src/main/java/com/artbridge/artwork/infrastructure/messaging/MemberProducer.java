@@ -1,7 +1,16 @@
 package com.artbridge.artwork.infrastructure.messaging;
 
+import com.artbridge.artwork.domain.vo.Member;
+
 public interface MemberProducer {
 
     void requestMemberName(Long id);
 
+    /**
+     * Set the name of a member from the {@link MemberDirectory}, or request it if it is unknown or stale.
+     *
+     * @param member the member, with an id.
+     */
+    void resolveMemberName(Member member);
+
 }
@@ -1,45 +1,67 @@
 package com.artbridge.artwork.infrastructure.messaging;
 
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.artbridge.artwork.domain.vo.Member;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Requests member names on Kafka through the {@link Outbox}, so that a request is published if and only if the
+ * creation it is made for commits, without waiting for the broker.
+ * <p>
+ * Names received recently are taken from the {@link MemberDirectory} instead, without a request. A name can change
+ * between the lookup and the commit of the write, after the rename already went over the existing rows: the directory
+ * is looked up again once the write commits, and the name requested if its entry changed meanwhile.
+ */
 @Slf4j
 @Service
 public class MemberProducerImpl implements MemberProducer {
-    /*TODO: - need refactoring*/
 
     // 토픽명
     private static final String TOPIC_MEMBERNAME = "member-name-request";
 
-    private final ObjectMapper objectMapper;
-    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final Outbox outbox;
 
-    public MemberProducerImpl(ObjectMapper objectMapper, KafkaTemplate<String, byte[]> kafkaTemplate) {
-        this.objectMapper = objectMapper;
-        this.kafkaTemplate = kafkaTemplate;
-    }
+    private final MemberDirectory memberDirectory;
 
+    private final TransactionTemplate requiresNewTransactionTemplate;
 
+    public MemberProducerImpl(Outbox outbox, MemberDirectory memberDirectory, PlatformTransactionManager transactionManager) {
+        this.outbox = outbox;
+        this.memberDirectory = memberDirectory;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     @Override
     public void requestMemberName(Long id) {
-        MemberNameDTO memberNameDTO = new MemberNameDTO(id);
-        try {
-            String message = objectMapper.writeValueAsString(memberNameDTO);
-            log.info("Request MemberName to Kafka Producer: {}", message);
-            Message<byte[]> kafkaMessage = MessageBuilder
-                .withPayload(message.getBytes())
-                .setHeader(KafkaHeaders.TOPIC, TOPIC_MEMBERNAME)
-                .build();
-            kafkaTemplate.send(kafkaMessage).get();
-            log.info("Request MemberName to Kafka Producer Success: {}", message);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        log.debug("Request MemberName of Member {}", id);
+        outbox.publish(TOPIC_MEMBERNAME, String.valueOf(id), new MemberNameDTO(id));
+    }
+
+    @Override
+    public void resolveMemberName(Member member) {
+        Optional<MemberDirectory.Entry> known = memberDirectory.find(member.getId());
+        if (known.isEmpty()) {
+            requestMemberName(member.getId());
+            return;
         }
+        member.setName(known.get().getMember().getName());
+        Long id = member.getId();
+        long version = known.get().getVersion();
+        TransactionCallbacks.afterCommit(() -> {
+            if (memberDirectory.find(id).map(MemberDirectory.Entry::getVersion).orElse(Long.MIN_VALUE) != version) {
+                log.debug("Name of Member {} changed during the write, requesting it again", id);
+                try {
+                    requiresNewTransactionTemplate.executeWithoutResult(status -> requestMemberName(id));
+                } catch (RuntimeException e) {
+                    log.warn("Could not request the name of Member {} again: {}", id, e.getMessage());
+                }
+            }
+        });
     }
 }
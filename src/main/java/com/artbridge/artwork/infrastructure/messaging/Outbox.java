@@ -0,0 +1,47 @@
+package com.artbridge.artwork.infrastructure.messaging;
+
+import com.artbridge.artwork.infrastructure.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional outbox: messages are written to the database in the transaction of the change they announce, and
+ * published to Kafka by the {@link OutboxRelay} once it commits. A rolled back change publishes nothing, and a
+ * committed one is published even if Kafka is unavailable at the time.
+ * <p>
+ * Messages are published at least once, so their consumers must tolerate duplicates.
+ */
+@Service
+public class Outbox {
+
+    private final OutboxRepository outboxRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public Outbox(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Add a message to publish once the current transaction commits.
+     *
+     * @param topic   the Kafka topic.
+     * @param key     the Kafka key, ordering the messages with the same key, may be {@code null}.
+     * @param message the message, serialized as JSON.
+     */
+    @Transactional
+    public void publish(String topic, String key, Object message) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize the message to " + topic, e);
+        }
+        outboxRepository.insert(topic, key, payload, LocalDateTime.now(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,257 @@
+package com.artbridge.artwork.infrastructure.messaging;
+
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.OutboxRepository;
+import com.artbridge.artwork.infrastructure.repository.OutboxRepository.OutboxMessage;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.common.errors.RetriableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * Publishes the messages of the {@link Outbox} to Kafka.
+ * <p>
+ * The oldest unsent messages are read in batches and all sent before waiting for their acknowledgements, so that the
+ * producer can group and compress them; the acknowledged ones are then marked sent. Batches follow each other until
+ * the backlog is drained. When a send fails, the message stays unsent and the relay backs off before trying again,
+ * so a later message with the same key may be published before it. A message that Kafka rejects (for example because
+ * it is too large) rather than fails to acknowledge in time is parked once it failed {@code max-attempts} times, so
+ * that it does not hold back the messages after it.
+ * <p>
+ * Only one node relays at a time, holding a Hazelcast lock whose lease bounds how long a crashed node keeps it.
+ */
+@Component
+public class OutboxRelay {
+
+    public static final String OUTBOX_MESSAGES_METER_NAME = "artwork.outbox.messages";
+    public static final String OUTBOX_MESSAGES_METER_DESCRIPTION = "Indicates the outcome of the outbox messages sent to Kafka.";
+    public static final String OUTBOX_MESSAGES_METER_RESULT_DIMENSION = "result";
+
+    public static final String LOCKS_MAP_NAME = "outbox-relay-lock";
+
+    private static final String LOCK_KEY = "relay";
+
+    private final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final IMap<String, Boolean> locks;
+
+    private final ApplicationProperties.Outbox properties;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+
+    private long backoffMs;
+
+    private long retryAfter;
+
+    public OutboxRelay(
+        OutboxRepository outboxRepository,
+        KafkaTemplate<String, byte[]> kafkaTemplate,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.locks = hazelcastInstance.getMap(LOCKS_MAP_NAME);
+        this.properties = applicationProperties.getOutbox();
+        this.sentCounter = outboxMessagesCounterForResultBuilder("sent").register(registry);
+        this.failedCounter = outboxMessagesCounterForResultBuilder("failed").register(registry);
+        this.parkedCounter = outboxMessagesCounterForResultBuilder("parked").register(registry);
+    }
+
+    private Counter.Builder outboxMessagesCounterForResultBuilder(String result) {
+        return Counter
+            .builder(OUTBOX_MESSAGES_METER_NAME)
+            .baseUnit("messages")
+            .description(OUTBOX_MESSAGES_METER_DESCRIPTION)
+            .tag(OUTBOX_MESSAGES_METER_RESULT_DIMENSION, result);
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (System.currentTimeMillis() < retryAfter || !lock()) {
+            return;
+        }
+        try {
+            // Drain the backlog, well within the lease of the lock.
+            long deadline = System.currentTimeMillis() + properties.getLockLeaseMs() / 2;
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == properties.getBatchSize() && System.currentTimeMillis() < deadline);
+        } catch (RuntimeException e) {
+            log.warn("Could not relay the outbox messages: {}", e.getMessage());
+            backOff();
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * Publish the oldest unsent messages.
+     *
+     * @return the number of messages published, 0 if a publication failed.
+     */
+    private int relayBatch() {
+        List<OutboxMessage> messages = transactionTemplate.execute(status -> outboxRepository.findUnsent(properties.getBatchSize()));
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+        List<ListenableFuture<SendResult<String, byte[]>>> results = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            results.add(send(message));
+        }
+        kafkaTemplate.flush();
+
+        List<Long> sent = new ArrayList<>(messages.size());
+        List<Long> failed = new ArrayList<>();
+        List<Long> rejected = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + properties.getSendTimeoutMs();
+        for (int i = 0; i < messages.size(); i++) {
+            Outcome outcome = acknowledge(results.get(i), deadline);
+            if (outcome == Outcome.SENT) {
+                sent.add(messages.get(i).getId());
+            } else {
+                failed.add(messages.get(i).getId());
+                if (outcome == Outcome.REJECTED) {
+                    rejected.add(messages.get(i).getId());
+                }
+            }
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        Integer parked = transactionTemplate.execute(status -> {
+            outboxRepository.markSent(sent, now);
+            outboxRepository.markFailed(failed);
+            return outboxRepository.park(rejected, properties.getMaxAttempts(), now);
+        });
+        sentCounter.increment(sent.size());
+        if (parked != null && parked > 0) {
+            parkedCounter.increment(parked);
+            log.error("Parked {} outbox messages rejected {} times by Kafka", parked, properties.getMaxAttempts());
+        }
+        if (!failed.isEmpty()) {
+            failedCounter.increment(failed.size());
+            log.warn("Could not publish {} of {} outbox messages, retrying in {} ms", failed.size(), messages.size(), backOff());
+            return 0;
+        }
+        backoffMs = 0;
+        return sent.size();
+    }
+
+    private ListenableFuture<SendResult<String, byte[]>> send(OutboxMessage message) {
+        try {
+            return kafkaTemplate.send(
+                MessageBuilder
+                    .withPayload(message.getPayload())
+                    .setHeader(KafkaHeaders.TOPIC, message.getTopic())
+                    .setHeader(KafkaHeaders.MESSAGE_KEY, message.getKey())
+                    .build()
+            );
+        } catch (RuntimeException e) {
+            log.debug("Could not send outbox message {}: {}", message.getId(), e.getMessage());
+            SettableListenableFuture<SendResult<String, byte[]>> failure = new SettableListenableFuture<>();
+            failure.setException(e);
+            return failure;
+        }
+    }
+
+    private Outcome acknowledge(ListenableFuture<SendResult<String, byte[]>> result, long deadline) {
+        try {
+            result.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            return Outcome.SENT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.FAILED;
+        } catch (TimeoutException e) {
+            return Outcome.FAILED;
+        } catch (ExecutionException e) {
+            return outcomeOf(e.getCause());
+        }
+    }
+
+    /**
+     * A failure is a rejection of the message unless Kafka reports it as retriable somewhere in the cause chain.
+     */
+    private static Outcome outcomeOf(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return Outcome.FAILED;
+            }
+        }
+        return Outcome.REJECTED;
+    }
+
+    private enum Outcome {
+        SENT,
+        FAILED,
+        REJECTED,
+    }
+
+    private long backOff() {
+        backoffMs = backoffMs == 0 ? properties.getInitialBackoffMs() : Math.min(backoffMs * 2, properties.getMaxBackoffMs());
+        retryAfter = System.currentTimeMillis() + backoffMs;
+        return backoffMs;
+    }
+
+    @Scheduled(cron = "0 50 * * * *", zone = "UTC")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).minusHours(properties.getRetentionHours());
+        try {
+            Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteSentBefore(before));
+            log.debug("Purged {} sent outbox messages", deleted);
+        } catch (RuntimeException e) {
+            log.warn("Could not purge the sent outbox messages: {}", e.getMessage());
+        }
+    }
+
+    private boolean lock() {
+        try {
+            return locks.tryLock(LOCK_KEY, 0, TimeUnit.MILLISECONDS, properties.getLockLeaseMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Could not lock the outbox relay: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void unlock() {
+        try {
+            locks.unlock(LOCK_KEY);
+        } catch (RuntimeException e) {
+            log.debug("Could not unlock the outbox relay, the lease will release it: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import java.util.Map;
+
+/**
+ * Atomic maintenance of the denormalized like/view/comment counters stored on the artwork row.
+ */
+public interface ArtworkCounterRepository {
+    void addLikeCount(Long artworkId, long delta);
+
+    void addLikeCounts(Map<Long, Long> deltas);
+
+    void addViewCount(Long artworkId, long delta);
+
+    void addViewCounts(Map<Long, Long> deltas);
+
+    void addCommentCount(Long artworkId, long delta);
+}
@@ -0,0 +1,73 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.domain.model.Artwork;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link ArtworkCounterRepository} implementation.
+ * <p>
+ * Counters are updated with a single {@code col = col + ?} statement instead of a JPQL bulk update,
+ * because Hibernate evicts the whole Artwork cache region on bulk updates; here only the touched entry is evicted.
+ */
+public class ArtworkCounterRepositoryImpl implements ArtworkCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ArtworkCounterRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void addLikeCount(Long artworkId, long delta) {
+        this.addCount("like_count", artworkId, delta);
+    }
+
+    @Override
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        this.addCounts("like_count", deltas);
+    }
+
+    @Override
+    public void addViewCount(Long artworkId, long delta) {
+        this.addCount("view_count", artworkId, delta);
+    }
+
+    @Override
+    public void addViewCounts(Map<Long, Long> deltas) {
+        this.addCounts("view_count", deltas);
+    }
+
+    @Override
+    public void addCommentCount(Long artworkId, long delta) {
+        this.addCount("comment_count", artworkId, delta);
+    }
+
+    private void addCount(String column, Long artworkId, long delta) {
+        if (artworkId == null || delta == 0) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE artwork SET " + column + " = " + column + " + ? WHERE id = ?", delta, artworkId);
+        entityManagerFactory.getCache().evict(Artwork.class, artworkId);
+    }
+
+    private void addCounts(String column, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((artworkId, delta) -> {
+            if (artworkId != null && delta != 0) {
+                args.add(new Object[] { delta, artworkId });
+            }
+        });
+        if (args.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE artwork SET " + column + " = " + column + " + ? WHERE id = ?", args);
+        args.forEach(arg -> entityManagerFactory.getCache().evict(Artwork.class, arg[1]));
+    }
+}
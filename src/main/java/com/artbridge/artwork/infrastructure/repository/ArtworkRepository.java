@@ -1,12 +1,17 @@
 package com.artbridge.artwork.infrastructure.repository;
 
+import com.artbridge.artwork.application.dto.ArtworkSummaryDTO;
 import com.artbridge.artwork.domain.model.Artwork;
 import com.artbridge.artwork.domain.standardType.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -15,11 +20,47 @@ import java.util.Set;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ArtworkRepository extends JpaRepository<Artwork, Long> {
+public interface ArtworkRepository extends JpaRepository<Artwork, Long>, ArtworkCounterRepository {
+
+    String SELECT_SUMMARY =
+        "select new com.artbridge.artwork.application.dto.ArtworkSummaryDTO(" +
+        "a.id, a.title, a.shortDescription, a.imageUrl, a.artistname, a.member.id, a.member.login, a.member.name, a.status, " +
+        "a.likeCount, a.viewCount, a.commentCount) " +
+        "from Artwork a ";
 
     Page<Artwork> findAllByStatusOrderByIdDesc(Status status, Pageable pageable);
 
+    @Query(
+        value = SELECT_SUMMARY + "where a.status = :status order by a.id desc",
+        countQuery = "select count(a) from Artwork a where a.status = :status"
+    )
+    Page<ArtworkSummaryDTO> findSummariesByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "where a.status = :status and a.id < :cursor order by a.id desc")
+    Slice<ArtworkSummaryDTO> findSummariesByStatusAndIdLessThan(@Param("status") Status status, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "where a.status = :status and a.id in :ids")
+    List<ArtworkSummaryDTO> findSummariesByStatusAndIdIn(@Param("status") Status status, @Param("ids") Collection<Long> ids);
+
+    @Query("select a.id from Artwork a where a.status = :status order by a.viewCount desc")
+    List<Long> findIdsByStatusOrderByViewCountDesc(@Param("status") Status status, Pageable pageable);
+
+    @Query("select a.id from Artwork a where a.id > :after order by a.id")
+    List<Long> findIdsByIdGreaterThan(@Param("after") Long after, Pageable pageable);
+
+    @Query("select a.id from Artwork a where a.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     Optional<Artwork> findByIdAndStatus(Long id, Status status);
 
     Set<Artwork> findAllByMemberId(Long id);
+
+    @Query("select a.likeCount from Artwork a where a.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    @Query("select a.id, a.likeCount from Artwork a where a.id in :ids")
+    List<Object[]> findLikeCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select a.id, a.likeCount, a.commentCount from Artwork a where a.status = :status and (a.likeCount > 0 or a.commentCount > 0)")
+    List<Object[]> findLikeAndCommentCountsByStatus(@Param("status") Status status);
 }
@@ -0,0 +1,27 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.domain.vo.Member;
+
+/**
+ * Insert-if-absent and delete support for the Like entity, relying on the unique {@code (artwork_id, member_id)}
+ * constraint, which only evict the affected second level cache entries.
+ */
+public interface LikeInsertRepository {
+    /**
+     * Insert a like unless the member already liked the artwork, in a single statement.
+     *
+     * @param artworkId the id of the liked artwork.
+     * @param member    the member who likes the artwork.
+     * @return {@code true} if a row was inserted, {@code false} if the like already existed.
+     */
+    boolean insertIfAbsent(Long artworkId, Member member);
+
+    /**
+     * Delete the like of a member on an artwork, if any.
+     *
+     * @param artworkId the id of the liked artwork.
+     * @param memberId  the id of the member who liked the artwork.
+     * @return the number of deleted rows, 0 or 1.
+     */
+    int deleteIfPresent(Long artworkId, Long memberId);
+}
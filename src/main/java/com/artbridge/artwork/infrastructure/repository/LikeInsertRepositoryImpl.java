@@ -0,0 +1,81 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.domain.model.Artwork;
+import com.artbridge.artwork.domain.model.Like;
+import com.artbridge.artwork.domain.vo.Member;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link LikeInsertRepository} implementation.
+ * <p>
+ * The {@code INSERT ... SELECT ... WHERE NOT EXISTS} statement runs unchanged on MariaDB and H2. When two requests race
+ * past the {@code NOT EXISTS} check, the unique constraint rejects the second insert, which is reported as a no-op as well.
+ * <p>
+ * Both statements bypass JPQL, whose bulk statements evict the whole {@code Like} region and the {@code Artwork.likes}
+ * collection region: only the deleted like and the {@code likes} collection of its artwork are evicted.
+ */
+public class LikeInsertRepositoryImpl implements LikeInsertRepository {
+
+    private static final String INSERT_IF_ABSENT =
+        "INSERT INTO jhi_like (id, artwork_id, member_id, member_login, member_name) " +
+        "SELECT NEXT VALUE FOR sequence_generator, ?, ?, ?, ? FROM DUAL " +
+        "WHERE NOT EXISTS (SELECT 1 FROM jhi_like WHERE artwork_id = ? AND member_id = ?)";
+
+    private static final String SELECT_ID = "SELECT id FROM jhi_like WHERE artwork_id = ? AND member_id = ?";
+
+    private static final String ARTWORK_LIKES_ROLE = Artwork.class.getName() + ".likes";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public LikeInsertRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public boolean insertIfAbsent(Long artworkId, Member member) {
+        int inserted;
+        try {
+            inserted =
+                jdbcTemplate.update(
+                    INSERT_IF_ABSENT,
+                    artworkId,
+                    member.getId(),
+                    member.getLogin(),
+                    member.getName(),
+                    artworkId,
+                    member.getId()
+                );
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        if (inserted > 0) {
+            entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictCollectionData(ARTWORK_LIKES_ROLE, artworkId);
+        }
+        return inserted > 0;
+    }
+
+    @Override
+    public int deleteIfPresent(Long artworkId, Long memberId) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_ID, Long.class, artworkId, memberId);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long id = ids.get(0);
+        int deleted = jdbcTemplate.update("DELETE FROM jhi_like WHERE id = ?", id);
+        if (deleted > 0) {
+            TransactionCallbacks.afterCommit(() -> {
+                org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+                cache.evictEntityData(Like.class, id);
+                cache.evictCollectionData(ARTWORK_LIKES_ROLE, artworkId);
+            });
+        }
+        return deleted;
+    }
+}
@@ -1,7 +1,11 @@
 package com.artbridge.artwork.infrastructure.repository;
 
 import com.artbridge.artwork.domain.model.Like;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,12 +13,15 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface LikeRepository extends JpaRepository<Like, Long> {
+public interface LikeRepository extends JpaRepository<Like, Long>, LikeInsertRepository {
 
     Long countByArtwork_Id(Long artworkId);
 
     Boolean existsByArtwork_IdAndMember_Id(Long artworkId, Long memberId);
 
-    void deleteByArtwork_IdAndMember_Id(Long artworkId, Long memberId);
+    Optional<Like> findOneByArtwork_IdAndMember_Id(Long artworkId, Long memberId);
+
+    @Query("select l.artwork.id from Like l where l.member.id = :memberId and l.artwork.id in :artworkIds")
+    Set<Long> findLikedArtworkIds(@Param("memberId") Long memberId, @Param("artworkIds") Collection<Long> artworkIds);
 
 }
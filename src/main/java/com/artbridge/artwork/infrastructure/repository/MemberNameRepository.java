@@ -0,0 +1,134 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.domain.model.Artwork;
+import com.artbridge.artwork.domain.model.Comment;
+import com.artbridge.artwork.domain.model.Like;
+import com.artbridge.artwork.domain.model.View;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository for the member names copied into the {@code artwork}, {@code comment}, {@code jhi_like} and
+ * {@code view} rows.
+ * <p>
+ * Names are updated with plain statements instead of loading and saving each entity, or a JPQL bulk update, which
+ * would evict the whole cache region: only the updated entries are evicted from the second level cache, once the
+ * transaction commits.
+ */
+@Repository
+public class MemberNameRepository {
+
+    /**
+     * Maximum number of rows renamed by one statement.
+     */
+    public static final int CHUNK_SIZE = 1000;
+
+    /**
+     * The tables holding a copy of the member name.
+     */
+    public enum Table {
+        ARTWORK("artwork", Artwork.class),
+        COMMENT("comment", Comment.class),
+        LIKE("jhi_like", Like.class),
+        VIEW("view", View.class);
+
+        private final String name;
+
+        private final Class<?> entityClass;
+
+        Table(String name, Class<?> entityClass) {
+            this.name = name;
+            this.entityClass = entityClass;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public MemberNameRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Rename a member in all the rows of a table, in chunks of {@value #CHUNK_SIZE} rows. Must be called in a
+     * transaction.
+     *
+     * @param table    the table.
+     * @param memberId the id of the member.
+     * @param name     the new name of the member.
+     * @return the number of renamed rows.
+     */
+    public int renameAll(Table table, long memberId, String name) {
+        return renameAll(table, memberId, name, ids -> {});
+    }
+
+    /**
+     * Rename a member in all the rows of a table, in chunks of {@value #CHUNK_SIZE} rows. Must be called in a
+     * transaction.
+     * <p>
+     * The rows of the member are paged by id and their names compared exactly, so that only the rows with another
+     * name are updated, including names that only differ by case.
+     *
+     * @param table    the table.
+     * @param memberId the id of the member.
+     * @param name     the new name of the member.
+     * @param renamed  called with the ids of each chunk of renamed rows.
+     * @return the number of renamed rows.
+     */
+    public int renameAll(Table table, long memberId, String name, Consumer<List<Long>> renamed) {
+        int count = 0;
+        long lastId = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(
+                "SELECT id, member_name FROM " + table.name + " WHERE member_id = ? AND id > ? ORDER BY id LIMIT ?",
+                memberId,
+                lastId,
+                CHUNK_SIZE
+            );
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            // Compared here rather than in the query: with a case-insensitive collation, "<>" would skip case-only renames.
+            List<Long> ids = rows
+                .stream()
+                .filter(row -> !name.equals(row.get("member_name")))
+                .map(row -> ((Number) row.get("id")).longValue())
+                .collect(Collectors.toList());
+            if (!ids.isEmpty()) {
+                rename(table, ids, name);
+                renamed.accept(ids);
+            }
+            count += ids.size();
+        } while (rows.size() == CHUNK_SIZE);
+        return count;
+    }
+
+    /**
+     * Rename a member in a chunk of the rows of a table.
+     */
+    private void rename(Table table, List<Long> ids, String name) {
+        namedParameterJdbcTemplate.update(
+            "UPDATE " + table.name + " SET member_name = :name WHERE id IN (:ids)",
+            new MapSqlParameterSource().addValue("name", name).addValue("ids", ids)
+        );
+        TransactionCallbacks.afterCommit(() -> {
+            org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+            ids.forEach(id -> cache.evictEntityData(table.entityClass, id));
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository for the {@code outbox_message} table, holding the Kafka messages waiting to be published.
+ * <p>
+ * All the dates are UTC local date-times, like the ones Hibernate writes with {@code hibernate.jdbc.time_zone: UTC}.
+ */
+@Repository
+public class OutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Add a message, in the current transaction.
+     *
+     * @param topic       the Kafka topic.
+     * @param key         the Kafka key, may be {@code null}.
+     * @param payload     the serialized message.
+     * @param createdDate the date of the message.
+     */
+    public void insert(String topic, String key, byte[] payload, LocalDateTime createdDate) {
+        jdbcTemplate.update(
+            "INSERT INTO outbox_message (topic, message_key, payload, created_date, attempts) VALUES (?, ?, ?, ?, 0)",
+            topic,
+            key,
+            payload,
+            createdDate
+        );
+    }
+
+    /**
+     * Find the oldest messages not published yet, leaving out the parked ones.
+     *
+     * @param limit the maximum number of messages.
+     * @return the messages, oldest first.
+     */
+    public List<OutboxMessage> findUnsent(int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, topic, message_key, payload FROM outbox_message WHERE sent_date IS NULL AND failed_date IS NULL ORDER BY id LIMIT ?",
+            (rs, rowNum) -> new OutboxMessage(rs.getLong("id"), rs.getString("topic"), rs.getString("message_key"), rs.getBytes("payload")),
+            limit
+        );
+    }
+
+    /**
+     * Mark messages as published.
+     *
+     * @param ids      the ids of the messages.
+     * @param sentDate the date of the publication.
+     */
+    public void markSent(Collection<Long> ids, LocalDateTime sentDate) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(
+            "UPDATE outbox_message SET sent_date = :sentDate, attempts = attempts + 1 WHERE id IN (:ids)",
+            new MapSqlParameterSource().addValue("sentDate", sentDate).addValue("ids", ids)
+        );
+    }
+
+    /**
+     * Count a failed publication of messages, which stay unsent.
+     *
+     * @param ids the ids of the messages.
+     */
+    public void markFailed(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(
+            "UPDATE outbox_message SET attempts = attempts + 1 WHERE id IN (:ids)",
+            new MapSqlParameterSource().addValue("ids", ids)
+        );
+    }
+
+    /**
+     * Park the messages that failed too many times: they are no longer returned by {@link #findUnsent(int)}.
+     *
+     * @param ids         the ids of the messages.
+     * @param maxAttempts the number of attempts after which a message is parked.
+     * @param failedDate  the date of the last failure.
+     * @return the number of messages parked.
+     */
+    public int park(Collection<Long> ids, int maxAttempts, LocalDateTime failedDate) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(
+            "UPDATE outbox_message SET failed_date = :failedDate WHERE id IN (:ids) AND attempts >= :maxAttempts",
+            new MapSqlParameterSource().addValue("failedDate", failedDate).addValue("ids", ids).addValue("maxAttempts", maxAttempts)
+        );
+    }
+
+    /**
+     * Delete the messages published before a date.
+     *
+     * @param date the date.
+     * @return the number of messages deleted.
+     */
+    public int deleteSentBefore(LocalDateTime date) {
+        return jdbcTemplate.update("DELETE FROM outbox_message WHERE sent_date < ?", date);
+    }
+
+    /**
+     * A message waiting to be published.
+     */
+    public static final class OutboxMessage {
+
+        private final long id;
+
+        private final String topic;
+
+        private final String key;
+
+        private final byte[] payload;
+
+        public OutboxMessage(long id, String topic, String key, byte[] payload) {
+            this.id = id;
+            this.topic = topic;
+            this.key = key;
+            this.payload = payload;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.application.dto.ViewCountDTO;
+import com.artbridge.artwork.domain.model.Artwork;
+import com.artbridge.artwork.domain.model.View;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import javax.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository for the {@code view_hourly} rollup table, and for the raw {@code view} rows it is built from.
+ * <p>
+ * All the dates are UTC local date-times, like the ones Hibernate writes with {@code hibernate.jdbc.time_zone: UTC}.
+ */
+@Repository
+public class ViewHourlyRepository {
+
+    private static final String ARTWORK_VIEWS_ROLE = Artwork.class.getName() + ".views";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ViewHourlyRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Get the last hour rolled up.
+     *
+     * @return the start of the last hour rolled up, empty if nothing was rolled up yet.
+     */
+    public Optional<LocalDateTime> findLastBucket() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MAX(bucket) FROM view_hourly", LocalDateTime.class));
+    }
+
+    /**
+     * Get the date of the first view in a range, to skip the hours without views.
+     *
+     * @param from the start of the range, inclusive.
+     * @param to   the end of the range, exclusive.
+     * @return the date of the first view, empty if there is no view in the range.
+     */
+    public Optional<LocalDateTime> findFirstViewedDate(LocalDateTime from, LocalDateTime to) {
+        return Optional.ofNullable(
+            jdbcTemplate.queryForObject(
+                "SELECT MIN(viewed_date) FROM view WHERE viewed_date >= ? AND viewed_date < ?",
+                LocalDateTime.class,
+                from,
+                to
+            )
+        );
+    }
+
+    /**
+     * Count the views of one hour per artwork into {@code view_hourly}.
+     *
+     * @param bucket the start of the hour.
+     * @return the number of artworks viewed during the hour.
+     */
+    public int rollup(LocalDateTime bucket) {
+        return jdbcTemplate.update(
+            "INSERT INTO view_hourly (artwork_id, bucket, view_count) " +
+            "SELECT artwork_id, ?, COUNT(*) FROM view " +
+            "WHERE viewed_date >= ? AND viewed_date < ? AND artwork_id IS NOT NULL GROUP BY artwork_id",
+            bucket,
+            bucket,
+            bucket.plusHours(1)
+        );
+    }
+
+    /**
+     * Count the views of one hour again, replacing its counts in {@code view_hourly}, for the views written after the
+     * hour was rolled up.
+     *
+     * @param bucket the start of the hour.
+     * @return the number of artworks viewed during the hour.
+     */
+    public int rollupAgain(LocalDateTime bucket) {
+        jdbcTemplate.update("DELETE FROM view_hourly WHERE bucket = ?", bucket);
+        return rollup(bucket);
+    }
+
+    /**
+     * Count the raw views of one hour, the way {@link #rollup(LocalDateTime)} counts them.
+     *
+     * @param bucket the start of the hour.
+     * @return the number of views.
+     */
+    public long countViews(LocalDateTime bucket) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM view WHERE viewed_date >= ? AND viewed_date < ? AND artwork_id IS NOT NULL",
+            Long.class,
+            bucket,
+            bucket.plusHours(1)
+        );
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Count the views of one hour rolled up into {@code view_hourly}.
+     *
+     * @param bucket the start of the hour.
+     * @return the number of views.
+     */
+    public long countRolledUpViews(LocalDateTime bucket) {
+        Long count = jdbcTemplate.queryForObject("SELECT SUM(view_count) FROM view_hourly WHERE bucket = ?", Long.class, bucket);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Get the hourly views of an artwork, including the hours not rolled up yet.
+     *
+     * @param artworkId the id of the artwork.
+     * @param from      the start of the range, inclusive.
+     * @param to        the end of the range, exclusive.
+     * @return the non-zero hourly counts, oldest first.
+     */
+    public List<ViewCountDTO> findHourlyViews(Long artworkId, Instant from, Instant to) {
+        LocalDateTime start = LocalDateTime.ofInstant(from, ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = LocalDateTime.ofInstant(to, ZoneOffset.UTC);
+        LocalDateTime rolledUpEnd = findLastBucket().map(bucket -> bucket.plusHours(1)).orElse(start);
+        if (!rolledUpEnd.isAfter(start)) {
+            rolledUpEnd = start;
+        }
+        List<ViewCountDTO> counts = new ArrayList<>(findAll(artworkId, start, rolledUpEnd.isBefore(end) ? rolledUpEnd : end));
+        if (rolledUpEnd.isBefore(end)) {
+            Map<LocalDateTime, Long> recent = new TreeMap<>();
+            findViewedDates(artworkId, rolledUpEnd, end)
+                .forEach(viewedDate -> recent.merge(viewedDate.truncatedTo(ChronoUnit.HOURS), 1L, Long::sum));
+            recent.forEach((hour, count) -> counts.add(new ViewCountDTO(hour.toInstant(ZoneOffset.UTC), count)));
+        }
+        return counts;
+    }
+
+    /**
+     * Find the hourly view counts of an artwork.
+     *
+     * @param artworkId the id of the artwork.
+     * @param from      the start of the range, inclusive.
+     * @param to        the end of the range, exclusive.
+     * @return the non-zero hourly counts, oldest first.
+     */
+    public List<ViewCountDTO> findAll(Long artworkId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            "SELECT bucket, view_count FROM view_hourly WHERE artwork_id = ? AND bucket >= ? AND bucket < ? ORDER BY bucket",
+            (rs, rowNum) -> new ViewCountDTO(rs.getObject("bucket", LocalDateTime.class).toInstant(ZoneOffset.UTC), rs.getLong("view_count")),
+            artworkId,
+            from,
+            to
+        );
+    }
+
+    /**
+     * Find the dates of the raw views of an artwork, for the hours not rolled up yet.
+     *
+     * @param artworkId the id of the artwork.
+     * @param from      the start of the range, inclusive.
+     * @param to        the end of the range, exclusive.
+     * @return the dates of the views.
+     */
+    public List<LocalDateTime> findViewedDates(Long artworkId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            "SELECT viewed_date FROM view WHERE artwork_id = ? AND viewed_date >= ? AND viewed_date < ?",
+            (rs, rowNum) -> rs.getObject("viewed_date", LocalDateTime.class),
+            artworkId,
+            from,
+            to
+        );
+    }
+
+    /**
+     * Read the view counts of all the artworks since a date, from {@code view_hourly} for the hours rolled up and from
+     * the raw views, one by one, for the others.
+     *
+     * @param from    the start of the range, inclusive.
+     * @param handler the handler called for each hourly count or raw view.
+     */
+    public void findViewCountsSince(LocalDateTime from, ViewCountHandler handler) {
+        jdbcTemplate.query(
+            "SELECT artwork_id, bucket, view_count FROM view_hourly WHERE bucket >= ?",
+            rs -> {
+                handler.handle(rs.getLong("artwork_id"), rs.getObject("bucket", LocalDateTime.class), rs.getLong("view_count"));
+            },
+            from
+        );
+        LocalDateTime rolledUpEnd = findLastBucket().map(bucket -> bucket.plusHours(1)).orElse(from);
+        jdbcTemplate.query(
+            "SELECT artwork_id, viewed_date FROM view WHERE viewed_date >= ? AND artwork_id IS NOT NULL",
+            rs -> {
+                handler.handle(rs.getLong("artwork_id"), rs.getObject("viewed_date", LocalDateTime.class), 1);
+            },
+            rolledUpEnd.isAfter(from) ? rolledUpEnd : from
+        );
+    }
+
+    /**
+     * Delete a chunk of raw views older than the given date, and evict them from the second level cache.
+     *
+     * @param before the date before which views are deleted.
+     * @param limit  the maximum number of views deleted.
+     * @return the number of deleted views.
+     */
+    public int deleteViewsBefore(LocalDateTime before, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        List<Long> artworkIds = new ArrayList<>();
+        jdbcTemplate.query(
+            "SELECT id, artwork_id FROM view WHERE viewed_date < ? ORDER BY viewed_date LIMIT ?",
+            rs -> {
+                ids.add(rs.getLong("id"));
+                long artworkId = rs.getLong("artwork_id");
+                if (!rs.wasNull()) {
+                    artworkIds.add(artworkId);
+                }
+            },
+            before,
+            limit
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = namedParameterJdbcTemplate.update("DELETE FROM view WHERE id IN (:ids)", Collections.singletonMap("ids", ids));
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        ids.forEach(id -> cache.evictEntityData(View.class, id));
+        artworkIds.stream().distinct().forEach(id -> cache.evictCollectionData(ARTWORK_VIEWS_ROLE, id));
+        return deleted;
+    }
+
+    /**
+     * Callback for {@link #findViewCountsSince(LocalDateTime, ViewCountHandler)}.
+     */
+    @FunctionalInterface
+    public interface ViewCountHandler {
+        void handle(long artworkId, LocalDateTime date, long count);
+    }
+}
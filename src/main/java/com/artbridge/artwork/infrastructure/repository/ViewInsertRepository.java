@@ -0,0 +1,17 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.domain.model.View;
+import java.util.List;
+
+/**
+ * Batched JDBC inserts for the View entity, used by the view ingestion pipeline.
+ */
+public interface ViewInsertRepository {
+    /**
+     * Insert views with JDBC batches, bypassing the persistence context.
+     *
+     * @param views     the views to insert, each with an artwork id.
+     * @param batchSize the number of rows sent per JDBC batch.
+     */
+    void insertAll(List<View> views, int batchSize);
+}
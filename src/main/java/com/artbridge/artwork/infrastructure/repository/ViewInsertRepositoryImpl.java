@@ -0,0 +1,56 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.domain.model.Artwork;
+import com.artbridge.artwork.domain.model.View;
+import com.artbridge.artwork.domain.vo.Member;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link ViewInsertRepository} implementation.
+ * <p>
+ * Ids are drawn from {@code sequence_generator} inside the statement, so no round trip is needed per row.
+ * Only the {@code Artwork.views} collection entries of the touched artworks are evicted from the second level cache.
+ */
+public class ViewInsertRepositoryImpl implements ViewInsertRepository {
+
+    private static final String INSERT =
+        "INSERT INTO view (id, artwork_id, member_id, member_login, member_name, viewed_date) " +
+        "VALUES (NEXT VALUE FOR sequence_generator, ?, ?, ?, ?, ?)";
+
+    private static final String ARTWORK_VIEWS_ROLE = Artwork.class.getName() + ".views";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ViewInsertRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void insertAll(List<View> views, int batchSize) {
+        if (views.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            INSERT,
+            views,
+            batchSize,
+            (ps, view) -> {
+                Member member = view.getMember() == null ? new Member() : view.getMember();
+                ps.setLong(1, view.getArtwork().getId());
+                ps.setObject(2, member.getId());
+                ps.setString(3, member.getLogin());
+                ps.setString(4, member.getName());
+                ps.setObject(5, LocalDateTime.ofInstant(view.getViewedDate(), ZoneOffset.UTC));
+            }
+        );
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        views.stream().map(view -> view.getArtwork().getId()).distinct().forEach(id -> cache.evictCollectionData(ARTWORK_VIEWS_ROLE, id));
+    }
+}
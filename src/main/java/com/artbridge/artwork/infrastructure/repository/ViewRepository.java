@@ -9,4 +9,4 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ViewRepository extends JpaRepository<View, Long> {}
+public interface ViewRepository extends JpaRepository<View, Long>, ViewInsertRepository {}
@@ -0,0 +1,107 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import com.artbridge.artwork.infrastructure.sketch.HyperLogLog;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository for the {@code view_sketch} table, which stores one {@link HyperLogLog} per artwork and bucket.
+ */
+@Repository
+public class ViewSketchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ViewSketchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Find the sketches of an artwork for the given buckets. Missing buckets are skipped.
+     *
+     * @param artworkId the id of the artwork.
+     * @param buckets   the buckets to read.
+     * @return the sketches found, by bucket.
+     */
+    public Map<LocalDate, HyperLogLog> findAll(Long artworkId, Collection<LocalDate> buckets) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("artworkId", artworkId)
+            .addValue("buckets", buckets.stream().map(Date::valueOf).collect(Collectors.toList()));
+        Map<LocalDate, HyperLogLog> sketches = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+            "SELECT bucket, registers FROM view_sketch WHERE artwork_id = :artworkId AND bucket IN (:buckets)",
+            params,
+            rs -> {
+                sketches.put(rs.getDate("bucket").toLocalDate(), HyperLogLog.fromBytes(rs.getBytes("registers")));
+            }
+        );
+        return sketches;
+    }
+
+    /**
+     * Merge a sketch into the stored one, creating it if needed. Must be called in a transaction,
+     * the stored row is locked while it is merged.
+     *
+     * @param artworkId the id of the artwork.
+     * @param bucket    the bucket of the sketch.
+     * @param sketch    the sketch to merge.
+     */
+    public void merge(Long artworkId, LocalDate bucket, HyperLogLog sketch) {
+        List<byte[]> stored = jdbcTemplate.query(
+            "SELECT registers FROM view_sketch WHERE artwork_id = ? AND bucket = ? FOR UPDATE",
+            (rs, rowNum) -> rs.getBytes("registers"),
+            artworkId,
+            Date.valueOf(bucket)
+        );
+        if (!stored.isEmpty()) {
+            HyperLogLog merged = HyperLogLog.fromBytes(stored.get(0));
+            merged.merge(sketch);
+            jdbcTemplate.update(
+                "UPDATE view_sketch SET registers = ? WHERE artwork_id = ? AND bucket = ?",
+                merged.toBytes(),
+                artworkId,
+                Date.valueOf(bucket)
+            );
+            return;
+        }
+        try {
+            jdbcTemplate.update(
+                "INSERT INTO view_sketch (artwork_id, bucket, registers) VALUES (?, ?, ?)",
+                artworkId,
+                Date.valueOf(bucket),
+                sketch.toBytes()
+            );
+        } catch (DuplicateKeyException e) {
+            // Another node created the row meanwhile, merge into it instead.
+            merge(artworkId, bucket, sketch);
+        }
+    }
+
+    /**
+     * Delete the daily sketches older than the given bucket, keeping the all-time ones.
+     *
+     * @param before    the oldest bucket to keep.
+     * @param allTime   the bucket of the all-time sketches.
+     * @return the number of deleted sketches.
+     */
+    public int deleteOlderThan(LocalDate before, LocalDate allTime) {
+        return jdbcTemplate.update(
+            "DELETE FROM view_sketch WHERE bucket < ? AND bucket <> ?",
+            Date.valueOf(before),
+            Date.valueOf(allTime)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.artbridge.artwork.infrastructure.rollup;
+
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.ViewHourlyRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hourly rollup of the raw {@code view} rows into {@code view_hourly}, and compaction of the raw rows.
+ * <p>
+ * Hours are rolled up in order, once they are over by more than the grace period, starting right after the last hour
+ * already rolled up; hours without any view are skipped. Each hour is rolled up in its own transaction, and the primary
+ * key of {@code view_hourly} stops a node from rolling up an hour another node just did.
+ * Views can still be written for an hour after it was rolled up, for example when the ingestion buffer retried them
+ * through a database outage: the last {@code lateHours} hours rolled up are compared with the raw views on each run,
+ * and counted again when they differ.
+ * Raw rows older than the retention period are then deleted in chunks, but only once their hour is rolled up.
+ */
+@Component
+public class ViewRollupJob {
+
+    private final Logger log = LoggerFactory.getLogger(ViewRollupJob.class);
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ViewHourlyRepository viewHourlyRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.ViewRollup properties;
+
+    public ViewRollupJob(
+        ViewHourlyRepository viewHourlyRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.viewHourlyRepository = viewHourlyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getViewRollup();
+    }
+
+    @Scheduled(fixedDelayString = "${application.view-rollup.interval-ms:300000}")
+    public void rollup() {
+        LocalDateTime end = now().minusSeconds(properties.getGraceSeconds()).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime bucket = nextBucket();
+        int hours = 0;
+        try {
+            while (bucket.isBefore(end)) {
+                Optional<LocalDateTime> firstViewedDate = viewHourlyRepository.findFirstViewedDate(bucket, end);
+                if (firstViewedDate.isEmpty()) {
+                    break;
+                }
+                LocalDateTime hour = firstViewedDate.get().truncatedTo(ChronoUnit.HOURS);
+                transactionTemplate.executeWithoutResult(status -> viewHourlyRepository.rollup(hour));
+                hours++;
+                bucket = hour.plusHours(1);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Stopped the view rollup at {}, it will be resumed: {}", bucket, e.getMessage());
+        }
+        if (hours > 0) {
+            log.debug("Rolled up {} hours of views", hours);
+        }
+        rollupLateViews();
+    }
+
+    private void rollupLateViews() {
+        LocalDateTime end = nextBucket();
+        // The hours whose raw views may already be compacted are left as they are.
+        LocalDateTime retention = now().minusDays(properties.getRetentionDays()).truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        LocalDateTime hour = end.minusHours(properties.getLateHours());
+        if (hour.isBefore(retention)) {
+            hour = retention;
+        }
+        int hours = 0;
+        try {
+            for (; hour.isBefore(end); hour = hour.plusHours(1)) {
+                LocalDateTime bucket = hour;
+                if (viewHourlyRepository.countViews(bucket) != viewHourlyRepository.countRolledUpViews(bucket)) {
+                    transactionTemplate.executeWithoutResult(status -> viewHourlyRepository.rollupAgain(bucket));
+                    hours++;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Stopped rolling up the late views at {}, it will be resumed: {}", hour, e.getMessage());
+        }
+        if (hours > 0) {
+            log.debug("Rolled up the late views of {} hours", hours);
+        }
+    }
+
+    @Scheduled(cron = "0 45 * * * *", zone = "UTC")
+    public void compact() {
+        LocalDateTime retention = now().minusDays(properties.getRetentionDays());
+        LocalDateTime rolledUpEnd = nextBucket();
+        LocalDateTime before = rolledUpEnd.isBefore(retention) ? rolledUpEnd : retention;
+        int chunkSize = properties.getCompactionChunkSize();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> viewHourlyRepository.deleteViewsBefore(before, chunkSize));
+            total += deleted;
+        } while (deleted == chunkSize);
+        if (total > 0) {
+            log.debug("Deleted {} raw views older than {}", total, before);
+        }
+    }
+
+    private LocalDateTime nextBucket() {
+        return viewHourlyRepository.findLastBucket().map(bucket -> bucket.plusHours(1)).orElse(EPOCH);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
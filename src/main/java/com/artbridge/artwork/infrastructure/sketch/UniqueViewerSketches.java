@@ -0,0 +1,325 @@
+package com.artbridge.artwork.infrastructure.sketch;
+
+import com.artbridge.artwork.application.dto.UniqueViewersDTO;
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.ViewSketchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unique viewers of each artwork, tracked with {@link HyperLogLog} sketches.
+ * <p>
+ * Every view updates the sketch of the current UTC day and the all-time sketch of its artwork. Sketches are first
+ * accumulated on this node and periodically merged into the {@code view_sketch} table, where the sketches of all nodes
+ * meet. Daily sketches are kept for {@value #DAYS_KEPT} days, which is what the weekly estimate needs.
+ * <p>
+ * Most pending sketches only see a few viewers between two flushes, so they hold the member ids until
+ * {@value #SPARSE_LIMIT} of them, and only become a 4 KB {@link HyperLogLog} past that. The number of pending sketches
+ * is bounded, for them not to grow for the whole of a database outage: once the bound is hit, the views of the
+ * artworks and days without a pending sketch are dropped from the unique viewers and counted.
+ */
+@Component
+public class UniqueViewerSketches {
+
+    /**
+     * Bucket of the all-time sketches.
+     */
+    public static final LocalDate ALL_TIME = LocalDate.EPOCH;
+
+    public static final int DAYS_KEPT = 7;
+
+    /**
+     * Number of member ids a pending sketch holds before it becomes a {@link HyperLogLog}, 2 KB of ids.
+     */
+    public static final int SPARSE_LIMIT = 256;
+
+    public static final String UNIQUE_VIEWERS_METER_NAME = "artwork.unique.viewers";
+    public static final String UNIQUE_VIEWERS_METER_DESCRIPTION = "Indicates the views the unique viewer sketches could not keep.";
+    public static final String UNIQUE_VIEWERS_METER_RESULT_DIMENSION = "result";
+    public static final String UNIQUE_VIEWERS_PENDING_METER_NAME = "artwork.unique.viewers.pending";
+
+    private final Logger log = LoggerFactory.getLogger(UniqueViewerSketches.class);
+
+    private final ConcurrentMap<SketchKey, PendingSketch> pending = new ConcurrentHashMap<>();
+
+    private final ViewSketchRepository viewSketchRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxPendingSketches;
+
+    /**
+     * Set once a view is dropped, and cleared by the next flush without failures, so that an outage is logged once.
+     */
+    private final AtomicBoolean overflowing = new AtomicBoolean();
+
+    private final Counter droppedCounter;
+
+    public UniqueViewerSketches(
+        ViewSketchRepository viewSketchRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.viewSketchRepository = viewSketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPendingSketches = applicationProperties.getUniqueViewers().getMaxPendingSketches();
+        this.droppedCounter =
+            Counter
+                .builder(UNIQUE_VIEWERS_METER_NAME)
+                .baseUnit("views")
+                .description(UNIQUE_VIEWERS_METER_DESCRIPTION)
+                .tag(UNIQUE_VIEWERS_METER_RESULT_DIMENSION, "dropped")
+                .register(registry);
+        Gauge
+            .builder(UNIQUE_VIEWERS_PENDING_METER_NAME, pending, Map::size)
+            .description("Number of unique viewer sketches waiting to be merged into the database.")
+            .register(registry);
+    }
+
+    /**
+     * Record that a member viewed an artwork. Anonymous views are ignored.
+     *
+     * @param artworkId the id of the viewed artwork.
+     * @param memberId  the id of the viewer, may be {@code null}.
+     */
+    public void add(Long artworkId, Long memberId) {
+        if (artworkId == null || memberId == null) {
+            return;
+        }
+        add(new SketchKey(artworkId, today()), memberId);
+        add(new SketchKey(artworkId, ALL_TIME), memberId);
+    }
+
+    private void add(SketchKey key, long memberId) {
+        if (pending.size() >= maxPendingSketches && !pending.containsKey(key)) {
+            droppedCounter.increment();
+            if (overflowing.compareAndSet(false, true)) {
+                log.error("Dropping views from the unique viewers, {} sketches are already pending", maxPendingSketches);
+            }
+            return;
+        }
+        pending.compute(
+            key,
+            (k, sketch) -> {
+                PendingSketch result = sketch == null ? new PendingSketch() : sketch;
+                result.add(memberId);
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Estimate the unique viewers of an artwork over the current day, the last {@value #DAYS_KEPT} days and all time.
+     *
+     * @param artworkId the id of the artwork.
+     * @return the estimates.
+     */
+    public UniqueViewersDTO estimate(Long artworkId) {
+        LocalDate today = today();
+        List<LocalDate> buckets = new ArrayList<>(DAYS_KEPT + 1);
+        for (int i = 0; i < DAYS_KEPT; i++) {
+            buckets.add(today.minusDays(i));
+        }
+        buckets.add(ALL_TIME);
+
+        Map<LocalDate, HyperLogLog> stored = viewSketchRepository.findAll(artworkId, buckets);
+        HyperLogLog day = new HyperLogLog();
+        HyperLogLog week = new HyperLogLog();
+        HyperLogLog allTime = new HyperLogLog();
+        for (LocalDate bucket : buckets) {
+            HyperLogLog target = bucket.equals(ALL_TIME) ? allTime : week;
+            mergeIfPresent(target, stored.get(bucket));
+            mergeIfPresent(target, pending.get(new SketchKey(artworkId, bucket)));
+            if (bucket.equals(today)) {
+                mergeIfPresent(day, stored.get(bucket));
+                mergeIfPresent(day, pending.get(new SketchKey(artworkId, bucket)));
+            }
+        }
+        return new UniqueViewersDTO(artworkId, day.estimate(), week.estimate(), allTime.estimate());
+    }
+
+    private static void mergeIfPresent(HyperLogLog target, HyperLogLog sketch) {
+        if (sketch != null) {
+            target.merge(sketch);
+        }
+    }
+
+    private static void mergeIfPresent(HyperLogLog target, PendingSketch sketch) {
+        if (sketch != null) {
+            sketch.mergeInto(target);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.unique-viewers.flush-interval-ms:10000}")
+    public void flush() {
+        boolean failed = false;
+        for (SketchKey key : new ArrayList<>(pending.keySet())) {
+            PendingSketch sketch = pending.remove(key);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    viewSketchRepository.merge(key.artworkId, key.bucket, sketch.toHyperLogLog())
+                );
+            } catch (RuntimeException e) {
+                failed = true;
+                log.warn("Could not flush the unique viewers of Artwork {}, it will be retried: {}", key.artworkId, e.getMessage());
+                pending.merge(
+                    key,
+                    sketch,
+                    (current, restored) -> {
+                        current.merge(restored);
+                        return current;
+                    }
+                );
+            }
+        }
+        if (!failed) {
+            overflowing.set(false);
+        }
+    }
+
+    @Scheduled(cron = "0 30 0 * * *", zone = "UTC")
+    public void deleteExpiredSketches() {
+        int deleted = viewSketchRepository.deleteOlderThan(today().minusDays(DAYS_KEPT - 1L), ALL_TIME);
+        log.debug("Deleted {} expired unique viewer sketches", deleted);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * Sketch of the viewers seen by this node since the last flush: the member ids up to {@value #SPARSE_LIMIT} of
+     * them, then a {@link HyperLogLog}.
+     */
+    private static final class PendingSketch {
+
+        private long[] members = new long[4];
+
+        private int size;
+
+        private HyperLogLog dense;
+
+        synchronized void add(long memberId) {
+            if (dense != null) {
+                dense.add(memberId);
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                if (members[i] == memberId) {
+                    return;
+                }
+            }
+            if (size == SPARSE_LIMIT) {
+                densify();
+                dense.add(memberId);
+                return;
+            }
+            if (size == members.length) {
+                members = Arrays.copyOf(members, Math.min(size * 2, SPARSE_LIMIT));
+            }
+            members[size++] = memberId;
+        }
+
+        /**
+         * Merge a sketch removed from the pending ones back into this one.
+         */
+        void merge(PendingSketch other) {
+            long[] otherMembers;
+            HyperLogLog otherDense;
+            synchronized (other) {
+                otherMembers = other.dense == null ? Arrays.copyOf(other.members, other.size) : null;
+                otherDense = other.dense;
+            }
+            if (otherDense == null) {
+                for (long memberId : otherMembers) {
+                    add(memberId);
+                }
+                return;
+            }
+            synchronized (this) {
+                if (dense == null) {
+                    densify();
+                }
+                dense.merge(otherDense);
+            }
+        }
+
+        synchronized void mergeInto(HyperLogLog target) {
+            if (dense != null) {
+                target.merge(dense);
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                target.add(members[i]);
+            }
+        }
+
+        HyperLogLog toHyperLogLog() {
+            HyperLogLog sketch = new HyperLogLog();
+            mergeInto(sketch);
+            return sketch;
+        }
+
+        private void densify() {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < size; i++) {
+                sketch.add(members[i]);
+            }
+            dense = sketch;
+            members = null;
+            size = 0;
+        }
+    }
+
+    private static final class SketchKey {
+
+        private final Long artworkId;
+
+        private final LocalDate bucket;
+
+        private SketchKey(Long artworkId, LocalDate bucket) {
+            this.artworkId = artworkId;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SketchKey)) return false;
+            SketchKey other = (SketchKey) o;
+            return artworkId.equals(other.artworkId) && bucket.equals(other.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(artworkId, bucket);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.artbridge.artwork.infrastructure.trending;
+
+import com.artbridge.artwork.application.dto.ArtworkSummaryDTO;
+import com.artbridge.artwork.domain.standardType.Status;
+import com.artbridge.artwork.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
+import com.artbridge.artwork.infrastructure.repository.ViewHourlyRepository;
+import com.artbridge.artwork.infrastructure.transaction.TransactionCallbacks;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trending score of each artwork, kept in memory by each node.
+ * <p>
+ * Likes, comments and views add their weight to the score of their artwork, and the weight of an event is halved every
+ * half-life. Instead of decaying every score, an event is added as {@code weight * 2^((t - epoch) / halfLife)}: all the
+ * scores then share the same decay factor, so they can be ranked without being decayed. The scores are rebuilt from the
+ * database at startup and every hour, which moves the epoch forward and brings in the views seen by the other nodes.
+ * Likes and comments have no date in the database, so the rebuild counts their totals as if they were {@code seedDays}
+ * old, and carries over the likes and comments this node recorded with their own dates.
+ * <p>
+ * The ranking is recomputed on a schedule and read as an immutable list, without touching the database.
+ */
+@Component
+public class TrendingScores {
+
+    private static final double MIN_SCORE = 1e-3;
+
+    private final Logger log = LoggerFactory.getLogger(TrendingScores.class);
+
+    private final ArtworkRepository artworkRepository;
+
+    private final ViewHourlyRepository viewHourlyRepository;
+
+    private final ApplicationProperties.Trending properties;
+
+    private final double halfLifeMillis;
+
+    private volatile Scores current = new Scores(Instant.now());
+
+    /**
+     * Likes and comments recorded by this node, which the rebuild cannot read back with their dates.
+     */
+    private volatile Scores engagement = new Scores(Instant.now());
+
+    /**
+     * Scores being rebuilt, which also receive the events recorded meanwhile.
+     */
+    private volatile Scores next;
+
+    private volatile List<ArtworkSummaryDTO> ranking = Collections.emptyList();
+
+    public TrendingScores(
+        ArtworkRepository artworkRepository,
+        ViewHourlyRepository viewHourlyRepository,
+        ApplicationProperties applicationProperties
+    ) {
+        this.artworkRepository = artworkRepository;
+        this.viewHourlyRepository = viewHourlyRepository;
+        this.properties = applicationProperties.getTrending();
+        this.halfLifeMillis = properties.getHalfLifeHours() * Duration.ofHours(1).toMillis();
+    }
+
+    /**
+     * Record likes or unlikes of an artwork, once the current transaction commits.
+     *
+     * @param artworkId the id of the artwork.
+     * @param delta     the number of likes, negative for unlikes.
+     */
+    public void addLikes(Long artworkId, long delta) {
+        add(artworkId, delta * properties.getLikeWeight(), true);
+    }
+
+    /**
+     * Record comments of an artwork, once the current transaction commits.
+     *
+     * @param artworkId the id of the artwork.
+     * @param delta     the number of comments, negative for deleted comments.
+     */
+    public void addComments(Long artworkId, long delta) {
+        add(artworkId, delta * properties.getCommentWeight(), true);
+    }
+
+    /**
+     * Record views of an artwork, once the current transaction commits.
+     *
+     * @param artworkId the id of the artwork.
+     * @param delta     the number of views.
+     */
+    public void addViews(Long artworkId, long delta) {
+        add(artworkId, delta * properties.getViewWeight(), false);
+    }
+
+    private void add(Long artworkId, double weight, boolean isEngagement) {
+        if (artworkId == null || weight == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Instant now = Instant.now();
+            current.add(artworkId, weight, now, halfLifeMillis);
+            if (isEngagement) {
+                engagement.add(artworkId, weight, now, halfLifeMillis);
+            }
+            Scores rebuilding = next;
+            if (rebuilding != null) {
+                rebuilding.add(artworkId, weight, now, halfLifeMillis);
+            }
+        });
+    }
+
+    /**
+     * Get the trending artworks.
+     *
+     * @param size the maximum number of artworks.
+     * @return the approved artworks with the highest scores, highest first.
+     */
+    public List<ArtworkSummaryDTO> top(int size) {
+        List<ArtworkSummaryDTO> result = ranking;
+        return size < result.size() ? result.subList(0, size) : result;
+    }
+
+    @Scheduled(fixedDelayString = "${application.trending.refresh-interval-ms:5000}")
+    public void refresh() {
+        Map<Long, Double> scores = current.scores;
+        int candidates = properties.getSize() * 2;
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(candidates + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            if (heap.size() > candidates) {
+                heap.poll();
+            }
+        }
+        if (heap.isEmpty()) {
+            ranking = Collections.emptyList();
+            return;
+        }
+        Map<Long, Double> top = new HashMap<>();
+        heap.forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        try {
+            List<ArtworkSummaryDTO> summaries = new ArrayList<>(artworkRepository.findSummariesByStatusAndIdIn(Status.OK, top.keySet()));
+            summaries.sort(Comparator.comparing((ArtworkSummaryDTO summary) -> top.get(summary.getId())).reversed());
+            ranking = Collections.unmodifiableList(summaries.size() > properties.getSize() ? summaries.subList(0, properties.getSize()) : summaries);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the trending artworks, keeping the previous ranking: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+        refresh();
+    }
+
+    @Scheduled(cron = "0 15 * * * *", zone = "UTC")
+    public void rebuild() {
+        Instant now = Instant.now();
+        Scores rebuilding = new Scores(now);
+        Scores recorded = engagement;
+        Scores nextEngagement = new Scores(now);
+        engagement = nextEngagement;
+        next = rebuilding;
+        try {
+            Instant since = now.minus(Duration.ofDays(properties.getSeedDays()));
+            viewHourlyRepository.findViewCountsSince(
+                LocalDateTime.ofInstant(since, ZoneOffset.UTC),
+                (artworkId, date, count) ->
+                    rebuilding.add(artworkId, count * properties.getViewWeight(), date.toInstant(ZoneOffset.UTC), halfLifeMillis)
+            );
+            for (Object[] row : artworkRepository.findLikeAndCommentCountsByStatus(Status.OK)) {
+                double weight = (Long) row[1] * properties.getLikeWeight() + (Long) row[2] * properties.getCommentWeight();
+                rebuilding.add((Long) row[0], weight, since, halfLifeMillis);
+            }
+            rebuilding.addAll(recorded, halfLifeMillis);
+            rebuilding.scores.values().removeIf(score -> score < MIN_SCORE);
+            current = rebuilding;
+            log.debug("Rebuilt the trending scores of {} artworks", rebuilding.scores.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the trending scores, keeping the current ones: {}", e.getMessage());
+        } finally {
+            nextEngagement.addAll(recorded, halfLifeMillis);
+            nextEngagement.scores.values().removeIf(score -> score < MIN_SCORE);
+            next = null;
+        }
+    }
+
+    /**
+     * Scores relative to an epoch: a score is worth {@code score * 2^(-(now - epoch) / halfLife)} at {@code now}.
+     */
+    private static final class Scores {
+
+        private final ConcurrentMap<Long, Double> scores = new ConcurrentHashMap<>();
+
+        private final long epochMillis;
+
+        private Scores(Instant epoch) {
+            this.epochMillis = epoch.toEpochMilli();
+        }
+
+        private void add(Long artworkId, double weight, Instant date, double halfLifeMillis) {
+            double scaled = weight * Math.pow(2, (date.toEpochMilli() - epochMillis) / halfLifeMillis);
+            scores.merge(artworkId, scaled, (score, delta) -> Math.max(0, score + delta));
+        }
+
+        /**
+         * Add the scores of another epoch, rescaled to this one.
+         */
+        private void addAll(Scores other, double halfLifeMillis) {
+            double scale = Math.pow(2, (other.epochMillis - epochMillis) / halfLifeMillis);
+            other.scores.forEach((artworkId, score) -> scores.merge(artworkId, score * scale, (a, b) -> Math.max(0, a + b)));
+        }
+    }
+}
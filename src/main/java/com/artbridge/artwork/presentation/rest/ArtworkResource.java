@@ -1,5 +1,6 @@
 package com.artbridge.artwork.presentation.rest;
 
+import com.artbridge.artwork.infrastructure.cache.ArtworkExistenceFilter;
 import com.artbridge.artwork.infrastructure.gcs.GCSService;
 import com.artbridge.artwork.domain.model.Artwork;
 import com.artbridge.artwork.infrastructure.repository.ArtworkRepository;
@@ -8,12 +9,15 @@ import com.artbridge.artwork.infrastructure.security.SecurityUtils;
 import com.artbridge.artwork.infrastructure.security.jwt.TokenProvider;
 import com.artbridge.artwork.application.usecase.ArtworkUsecase;
 import com.artbridge.artwork.application.dto.ArtworkDTO;
+import com.artbridge.artwork.application.dto.ArtworkSummaryDTO;
 import com.artbridge.artwork.application.dto.MemberDTO;
 import com.artbridge.artwork.presentation.exception.BadRequestAlertException;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -26,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -48,6 +53,8 @@ public class ArtworkResource {
 
     private static final String ENTITY_NAME = "artworkArtwork";
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -59,11 +66,20 @@ public class ArtworkResource {
 
     private final GCSService gcsService;
 
-    public ArtworkResource(ArtworkUsecase artworkUsecase, ArtworkRepository artworkRepository, TokenProvider tokenProvider, GCSService gcsService) {
+    private final ArtworkExistenceFilter artworkExistenceFilter;
+
+    public ArtworkResource(
+        ArtworkUsecase artworkUsecase,
+        ArtworkRepository artworkRepository,
+        TokenProvider tokenProvider,
+        GCSService gcsService,
+        ArtworkExistenceFilter artworkExistenceFilter
+    ) {
         this.artworkUsecase = artworkUsecase;
         this.artworkRepository = artworkRepository;
         this.tokenProvider = tokenProvider;
         this.gcsService = gcsService;
+        this.artworkExistenceFilter = artworkExistenceFilter;
     }
 
 
@@ -106,15 +122,57 @@ public class ArtworkResource {
      * @return 페이지별로 조회된 Artwork 목록을 담은 ResponseEntity
      */
     @GetMapping
-    public ResponseEntity<List<ArtworkDTO>> getAllArtworks(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtworkSummaryDTO>> getAllArtworks(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artworks");
-        Page<ArtworkDTO> page = artworkUsecase.findAll(pageable);
+        Page<ArtworkSummaryDTO> page = artworkUsecase.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
 
 
+    /**
+     * {@code GET /artworks?after=} : 커서 이후의 Artwork를 조회합니다. (무한 스크롤용)
+     * 첫 페이지는 빈 커서({@code after=})로 요청하고, 이후에는 응답의 {@code X-Next-Cursor} 헤더 값을 그대로 전달합니다.
+     * 다음 페이지가 없으면 {@code X-Next-Cursor} 헤더가 포함되지 않습니다.
+     *
+     * @param after    이전 응답에서 받은 커서 (첫 페이지인 경우 빈 값)
+     * @param pageable 페이지 정보 (size만 사용)
+     * @return 커서 이후의 Artwork 목록을 담은 ResponseEntity
+     * @throws BadRequestAlertException 커서 형식이 잘못된 경우 발생합니다.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<List<ArtworkSummaryDTO>> getAllArtworksAfter(@RequestParam(value = "after", required = false) String after, @org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+        log.debug("REST request to get a slice of Artworks after : {}", after);
+        Slice<ArtworkSummaryDTO> slice = artworkUsecase.findAllAfter(this.decodeCursor(after), pageable.getPageSize());
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            List<ArtworkSummaryDTO> content = slice.getContent();
+            headers.add(NEXT_CURSOR_HEADER, this.encodeCursor(content.get(content.size() - 1).getId()));
+        }
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+
+
+    /**
+     * {@code GET /artworks/trending} : 최근 좋아요, 댓글, 조회 수를 시간에 따라 감쇠시킨 점수가 높은 Artwork를 조회합니다.
+     * 순위는 각 노드의 메모리에서 주기적으로 갱신되므로 데이터베이스를 조회하지 않습니다.
+     *
+     * @param size 조회할 Artwork 개수 (기본값 20, 최대 application.trending.size)
+     * @return 점수가 높은 순서의 Artwork 목록을 담은 ResponseEntity
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<ArtworkSummaryDTO>> getTrendingArtworks(@RequestParam(value = "size", defaultValue = "20") int size) {
+        log.debug("REST request to get trending Artworks : {}", size);
+        if (size < 1) {
+            throw new BadRequestAlertException("Invalid size", ENTITY_NAME, "sizeinvalid");
+        }
+        return ResponseEntity.ok().body(artworkUsecase.findTrending(size));
+    }
+
+
+
     /**
      * {@code GET  /artworks/:id} : 주어진 id에 해당하는 Artwork를 조회합니다.
      *
@@ -189,10 +247,6 @@ public class ArtworkResource {
     public ResponseEntity<ArtworkDTO> authorizeOkArtwork(@PathVariable(value = "id", required = false) final Long id) {
         log.debug("REST request to authorize ok Artwork : {}", id);
 
-        if (!artworkRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
         this.validateArtworkExists(id);
 
         ArtworkDTO result = artworkUsecase.authorizeOkArtwork(id);
@@ -238,9 +292,9 @@ public class ArtworkResource {
      */
     @GetMapping("/pending/creates")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public ResponseEntity<List<ArtworkDTO>> getCreatePendings(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtworkSummaryDTO>> getCreatePendings(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artworks");
-        Page<ArtworkDTO> page = artworkUsecase.findCreatePendings(pageable);
+        Page<ArtworkSummaryDTO> page = artworkUsecase.findCreatePendings(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -255,9 +309,9 @@ public class ArtworkResource {
      */
     @GetMapping("/pending/updates")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public ResponseEntity<List<ArtworkDTO>> getUpdatePendings(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtworkSummaryDTO>> getUpdatePendings(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artworks");
-        Page<ArtworkDTO> page = artworkUsecase.findUpdatePendings(pageable);
+        Page<ArtworkSummaryDTO> page = artworkUsecase.findUpdatePendings(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -271,9 +325,9 @@ public class ArtworkResource {
      */
     @GetMapping("/pending/deletes")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public ResponseEntity<List<ArtworkDTO>> getDeletePendings(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtworkSummaryDTO>> getDeletePendings(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artworks");
-        Page<ArtworkDTO> page = artworkUsecase.findDeletePendings(pageable);
+        Page<ArtworkSummaryDTO> page = artworkUsecase.findDeletePendings(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -347,6 +401,34 @@ public class ArtworkResource {
 
 
 
+    /**
+     * Artwork id를 클라이언트에 전달할 불투명 커서 문자열로 변환합니다.
+     *
+     * @param id 커서로 사용할 Artwork의 식별자(ID)
+     * @return URL-safe Base64로 인코딩된 커서
+     */
+    private String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서를 Artwork id로 변환합니다.
+     *
+     * @param cursor 커서 문자열
+     * @return 커서에 해당하는 Artwork id, 커서가 비어있는 경우 null
+     * @throws BadRequestAlertException 커서 형식이 잘못된 경우 발생합니다.
+     */
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+        }
+    }
+
     /**
      * 주어진 토큰을 사용하여 MemberDTO 객체를 생성합니다.
      *
@@ -377,14 +459,22 @@ public class ArtworkResource {
 
     /**
      * 주어진 id에 해당하는 Artwork가 존재하는지 검증합니다.
+     * 존재하지 않는 것으로 알려진 id는 데이터베이스를 조회하지 않습니다.
      *
      * @param id 검증할 Artwork의 식별자(ID)
      * @return 주어진 id에 해당하는 Artwork 객체
      * @throws BadRequestAlertException Artwork가 존재하지 않는 경우 발생합니다.
      */
     private Artwork validateArtworkExists(Long id) {
-        return artworkRepository.findById(id)
-            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (artworkExistenceFilter.isMissing(id)) {
+            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+        Optional<Artwork> artwork = artworkRepository.findById(id);
+        if (artwork.isEmpty()) {
+            artworkExistenceFilter.markMissing(id);
+            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+        return artwork.get();
     }
 
     /**
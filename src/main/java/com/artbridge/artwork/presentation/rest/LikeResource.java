@@ -1,6 +1,7 @@
 package com.artbridge.artwork.presentation.rest;
 
 import com.artbridge.artwork.domain.model.Like;
+import com.artbridge.artwork.infrastructure.cache.ArtworkExistenceFilter;
 import com.artbridge.artwork.infrastructure.repository.LikeRepository;
 import com.artbridge.artwork.infrastructure.security.SecurityUtils;
 import com.artbridge.artwork.infrastructure.security.jwt.TokenProvider;
@@ -11,8 +12,10 @@ import com.artbridge.artwork.presentation.exception.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,6 +41,8 @@ public class LikeResource {
 
     private static final String ENTITY_NAME = "artworkLike";
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -47,20 +52,30 @@ public class LikeResource {
 
     private final TokenProvider tokenProvider;
 
+    private final ArtworkExistenceFilter artworkExistenceFilter;
+
 
-    public LikeResource(LikeUsecase likeUsecase, LikeRepository likeRepository, TokenProvider tokenProvider) {
+    public LikeResource(
+        LikeUsecase likeUsecase,
+        LikeRepository likeRepository,
+        TokenProvider tokenProvider,
+        ArtworkExistenceFilter artworkExistenceFilter
+    ) {
         this.likeUsecase = likeUsecase;
         this.likeRepository = likeRepository;
         this.tokenProvider = tokenProvider;
+        this.artworkExistenceFilter = artworkExistenceFilter;
     }
 
 
 
     /**
      * {@code POST /likes} : Like을 생성합니다.
+     * 이미 좋아요를 누른 작품인 경우 아무 작업도 하지 않고 {@code 200 (OK)}와 기존 Like을 반환합니다.
      *
      * @param likeDTO 생성할 Like의 정보를 담은 LikeDTO 객체
-     * @return 생성된 Like의 정보를 담은 ResponseEntity
+     * @return 생성된 경우 {@code 201 (Created)}와 생성된 Like의 Location, 이미 존재하는 경우 {@code 200 (OK)}와
+     * Like의 정보를 담은 ResponseEntity
      * @throws URISyntaxException URI 구문 예외가 발생하는 경우
      * @throws BadRequestAlertException Like 생성 실패 시 발생하는 BadRequestAlertException
      */
@@ -70,22 +85,28 @@ public class LikeResource {
         if (likeDTO.getId() != null) {
             throw new BadRequestAlertException("A new like cannot already have an ID", ENTITY_NAME, "idexists");
         }
-
-        String token = this.validateAndGetToken();
-
-        if(likeRepository.existsByArtwork_IdAndMember_Id(likeDTO.getArtwork().getId(), this.tokenProvider.getUserIdFromToken(token))) {
-            throw new BadRequestAlertException("이미 좋아요를 누른 작품입니다.", ENTITY_NAME, "alreadyliked");
+        if (likeDTO.getArtwork() == null || likeDTO.getArtwork().getId() == null) {
+            throw new BadRequestAlertException("Invalid artwork", ENTITY_NAME, "artworknull");
+        }
+        if (artworkExistenceFilter.isMissing(likeDTO.getArtwork().getId())) {
+            throw new BadRequestAlertException("Artwork not found", ENTITY_NAME, "artworknotfound");
         }
 
+        String token = this.validateAndGetToken();
         MemberDTO memberDTO = this.createMember(token);
 
         likeDTO.setMember(memberDTO);
 
-        LikeDTO result = likeUsecase.save(likeDTO);
+        boolean created = likeUsecase.saveIfAbsent(likeDTO);
+        Optional<LikeDTO> result = likeUsecase.findOne(likeDTO.getArtwork().getId(), memberDTO.getId());
+        if (!created || result.isEmpty()) {
+            // Already liked, or unliked again since.
+            return ResponseEntity.ok().body(result.orElse(likeDTO));
+        }
         return ResponseEntity
-            .created(new URI("/api/likes/" + result.getId()))
-            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
-            .body(result);
+            .created(new URI("/api/likes/" + result.get().getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.get().getId().toString()))
+            .body(result.get());
     }
 
 
@@ -193,17 +214,69 @@ public class LikeResource {
      * {@code GET /likes/counts} : Artwork에 대한 Like 개수를 조회합니다.
      *
      * @param artworkId Artwork의 식별자(ID)
-     * @return Artwork에 대한 Like 개수를 담은 ResponseEntity
+     * @return Artwork에 대한 Like 개수를 담은 ResponseEntity, 존재하지 않는 것으로 알려진 Artwork는 0
      */
     @GetMapping("/counts")
     public ResponseEntity<Long> getLikeCount(@RequestParam Long artworkId) {
         log.debug("REST request to get Like Count : {}", artworkId);
-        Long count = likeUsecase.countByArtworkId(artworkId);
+        Long count = artworkExistenceFilter.isMissing(artworkId) ? 0L : likeUsecase.countByArtworkId(artworkId);
         return ResponseEntity.ok().body(count);
     }
 
 
 
+    /**
+     * {@code GET /likes/counts?artworkIds=} : 여러 Artwork에 대한 Like 개수를 한 번에 조회합니다.
+     *
+     * @param artworkIds Artwork의 식별자(ID) 목록 (최대 {@value #MAX_BATCH_SIZE}개)
+     * @return Artwork ID별 Like 개수를 담은 ResponseEntity
+     * @throws BadRequestAlertException Artwork ID 목록이 최대 개수를 초과한 경우
+     */
+    @GetMapping(value = "/counts", params = "artworkIds")
+    public ResponseEntity<Map<Long, Long>> getLikeCounts(@RequestParam List<Long> artworkIds) {
+        log.debug("REST request to get Like Counts : {}", artworkIds);
+        this.validateBatchSize(artworkIds);
+        Map<Long, Long> counts = likeUsecase.countByArtworkIds(artworkIds);
+        return ResponseEntity.ok().body(counts);
+    }
+
+
+
+    /**
+     * {@code GET /likes/mine} : 주어진 Artwork 목록 중 현재 사용자가 좋아요를 누른 Artwork ID를 조회합니다.
+     * 피드 한 페이지의 좋아요 여부를 한 번의 요청으로 확인할 수 있습니다.
+     *
+     * @param artworkIds 확인할 Artwork ID 목록 (최대 {@value #MAX_BATCH_SIZE}개)
+     * @return 현재 사용자가 좋아요를 누른 Artwork ID 목록을 담은 ResponseEntity
+     * @throws BadRequestAlertException Artwork ID 목록이 최대 개수를 초과한 경우
+     */
+    @GetMapping("/mine")
+    public ResponseEntity<Set<Long>> getLikedArtworkIds(@RequestParam List<Long> artworkIds) {
+        log.debug("REST request to get liked Artworks : {}", artworkIds);
+        this.validateBatchSize(artworkIds);
+        String token = this.validateAndGetToken();
+        Long memberId = this.tokenProvider.getUserIdFromToken(token);
+
+        Set<Long> result = likeUsecase.findLikedArtworkIds(memberId, artworkIds);
+        return ResponseEntity.ok().body(result);
+    }
+
+
+
+    /**
+     * 한 번에 조회할 Artwork ID 목록의 크기를 검증합니다.
+     *
+     * @param artworkIds 검증할 Artwork ID 목록
+     * @throws BadRequestAlertException 최대 개수를 초과한 경우
+     */
+    private void validateBatchSize(List<Long> artworkIds) {
+        if (artworkIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestAlertException("Too many artwork ids", ENTITY_NAME, "toomanyids");
+        }
+    }
+
+
+
     /**
      * Like 정보를 검증합니다.
      *
@@ -1,13 +1,18 @@
 package com.artbridge.artwork.presentation.rest;
 
 import com.artbridge.artwork.domain.model.View;
+import com.artbridge.artwork.infrastructure.cache.ArtworkExistenceFilter;
 import com.artbridge.artwork.infrastructure.repository.ViewRepository;
 import com.artbridge.artwork.presentation.exception.BadRequestAlertException;
 import com.artbridge.artwork.application.usecase.ViewUsecase;
+import com.artbridge.artwork.application.dto.UniqueViewersDTO;
+import com.artbridge.artwork.application.dto.ViewCountDTO;
 import com.artbridge.artwork.application.dto.ViewDTO;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -17,6 +22,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -35,6 +41,10 @@ public class ViewResource {
 
     private static final String ENTITY_NAME = "artworkView";
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private static final long MAX_HOURLY_RANGE_DAYS = 93;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -42,16 +52,21 @@ public class ViewResource {
 
     private final ViewRepository viewRepository;
 
-    public ViewResource(ViewUsecase viewUsecase, ViewRepository viewRepository) {
+    private final ArtworkExistenceFilter artworkExistenceFilter;
+
+    public ViewResource(ViewUsecase viewUsecase, ViewRepository viewRepository, ArtworkExistenceFilter artworkExistenceFilter) {
         this.viewUsecase = viewUsecase;
         this.viewRepository = viewRepository;
+        this.artworkExistenceFilter = artworkExistenceFilter;
     }
 
     /**
      * {@code POST  /views} : Create a new view.
      *
      * @param viewDTO the viewDTO to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new viewDTO, or with status {@code 400 (Bad Request)} if the view has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new viewDTO,
+     * or with status {@code 204 (No Content)} if the member already viewed the artwork recently,
+     * or with status {@code 400 (Bad Request)} if the view has already an ID or its artwork does not exist.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/views")
@@ -60,6 +75,12 @@ public class ViewResource {
         if (viewDTO.getId() != null) {
             throw new BadRequestAlertException("A new view cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        if (viewDTO.getArtwork() != null && viewDTO.getArtwork().getId() != null) {
+            this.validateArtworkNotMissing(viewDTO.getArtwork().getId());
+        }
+        if (!viewUsecase.registerView(viewDTO)) {
+            return ResponseEntity.noContent().build();
+        }
         ViewDTO result = viewUsecase.save(viewDTO);
         return ResponseEntity
             .created(new URI("/api/views/" + result.getId()))
@@ -67,6 +88,36 @@ public class ViewResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /views/events} : Record a view asynchronously.
+     * <p>
+     * The view is buffered and written later with other views, so no id is returned.
+     *
+     * @param viewDTO the view to record, with an artwork id.
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)},
+     * or with status {@code 204 (No Content)} if the member already viewed the artwork recently,
+     * or with status {@code 400 (Bad Request)} if the view has already an ID or has no artwork or its artwork does not exist,
+     * or with status {@code 503 (Service Unavailable)} and a {@code Retry-After} header if the ingestion buffer is full.
+     */
+    @PostMapping("/views/events")
+    public ResponseEntity<Void> createViewEvent(@RequestBody ViewDTO viewDTO) {
+        log.debug("REST request to record View : {}", viewDTO);
+        if (viewDTO.getId() != null) {
+            throw new BadRequestAlertException("A new view cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        if (viewDTO.getArtwork() == null || viewDTO.getArtwork().getId() == null) {
+            throw new BadRequestAlertException("Invalid artwork", ENTITY_NAME, "artworknull");
+        }
+        this.validateArtworkNotMissing(viewDTO.getArtwork().getId());
+        if (!viewUsecase.registerView(viewDTO)) {
+            return ResponseEntity.noContent().build();
+        }
+        if (!viewUsecase.enqueue(viewDTO)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
     /**
      * {@code PUT  /views/:id} : Updates an existing view.
      *
@@ -162,6 +213,41 @@ public class ViewResource {
         return ResponseUtil.wrapOrNotFound(viewDTO);
     }
 
+    /**
+     * {@code GET  /views/unique-viewers} : get the estimated unique viewers of an artwork.
+     *
+     * @param artworkId the id of the artwork.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the estimated unique viewers
+     * over the current day, the last 7 days and all time.
+     */
+    @GetMapping("/views/unique-viewers")
+    public ResponseEntity<UniqueViewersDTO> getUniqueViewers(@RequestParam Long artworkId) {
+        log.debug("REST request to get unique viewers of Artwork : {}", artworkId);
+        return ResponseEntity.ok().body(viewUsecase.estimateUniqueViewers(artworkId));
+    }
+
+    /**
+     * {@code GET  /views/hourly} : get the hourly views of an artwork.
+     *
+     * @param artworkId the id of the artwork.
+     * @param from the start of the range, inclusive.
+     * @param to the end of the range, exclusive.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the non-zero hourly counts, oldest first,
+     * or with status {@code 400 (Bad Request)} if the range is empty or longer than 93 days.
+     */
+    @GetMapping("/views/hourly")
+    public ResponseEntity<List<ViewCountDTO>> getHourlyViews(
+        @RequestParam Long artworkId,
+        @RequestParam Instant from,
+        @RequestParam Instant to
+    ) {
+        log.debug("REST request to get hourly views of Artwork : {} from {} to {}", artworkId, from, to);
+        if (!from.isBefore(to) || from.plus(MAX_HOURLY_RANGE_DAYS, ChronoUnit.DAYS).isBefore(to)) {
+            throw new BadRequestAlertException("Invalid range", ENTITY_NAME, "rangeinvalid");
+        }
+        return ResponseEntity.ok().body(viewUsecase.findHourlyViews(artworkId, from, to));
+    }
+
     /**
      * {@code DELETE  /views/:id} : delete the "id" view.
      *
@@ -177,4 +263,16 @@ public class ViewResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * Reject a view of an artwork known not to exist, without querying the database.
+     *
+     * @param artworkId the id of the artwork.
+     * @throws BadRequestAlertException if the artwork does not exist.
+     */
+    private void validateArtworkNotMissing(Long artworkId) {
+        if (artworkExistenceFilter.isMissing(artworkId)) {
+            throw new BadRequestAlertException("Artwork not found", ENTITY_NAME, "artworknotfound");
+        }
+    }
 }
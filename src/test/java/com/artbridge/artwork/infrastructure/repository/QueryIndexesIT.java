@@ -0,0 +1,129 @@
+package com.artbridge.artwork.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks on MariaDB that the indexes of the Liquibase changelogs serve the query shapes of the repositories: the
+ * schema is migrated, filled with enough rows for the optimizer to prefer an index, and each query is explained.
+ * <p>
+ * Needs Docker and the MariaDB driver of the {@code prod} profile:
+ * {@code ./mvnw -Pprod verify -Dmaven.test.skip=false -Dit.test=QueryIndexesIT}.
+ */
+@Testcontainers
+class QueryIndexesIT {
+
+    @Container
+    private static final MariaDBContainer<?> mariadb = new MariaDBContainer<>("mariadb:10.8.3").withCommand(
+        "mysqld",
+        "--lower_case_table_names=1",
+        "--character_set_server=utf8mb4"
+    );
+
+    @BeforeAll
+    @Timeout(value = 5, unit = TimeUnit.MINUTES)
+    static void setUp() throws Exception {
+        try (Connection connection = connect()) {
+            Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            Liquibase liquibase = new Liquibase("config/liquibase/master.xml", new ClassLoaderResourceAccessor(), database);
+            liquibase.update(new Contexts("test"), new LabelExpression());
+        }
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(
+                "INSERT INTO artwork (id, title, status, member_id, member_login, member_name) " +
+                "SELECT seq, CONCAT('title ', seq), ELT(1 + seq % 4, 'OK', 'UPLOAD_PENDING', 'REVISION_PENDING', 'DELETE_PENDING'), " +
+                "1 + seq % 1000, CONCAT('login', seq % 1000), CONCAT('name', seq % 1000) FROM seq_1_to_20000"
+            );
+            statement.execute(
+                "INSERT INTO comment (id, content, artwork_id, member_id, member_login, member_name) " +
+                "SELECT seq, 'content', 1 + seq % 20000, 1 + seq % 1000, 'login', 'name' FROM seq_1_to_50000"
+            );
+            statement.execute(
+                "INSERT INTO jhi_like (id, artwork_id, member_id, member_login, member_name) " +
+                "SELECT seq, 1 + seq % 20000, 1 + seq % 997, 'login', 'name' FROM seq_1_to_50000"
+            );
+            statement.execute(
+                "INSERT INTO view (id, artwork_id, member_id, member_login, member_name, viewed_date) " +
+                "SELECT seq, 1 + seq % 20000, 1 + seq % 1000, 'login', 'name', NOW() - INTERVAL seq MINUTE FROM seq_1_to_50000"
+            );
+            statement.execute("ANALYZE TABLE artwork, comment, jhi_like, view");
+        }
+    }
+
+    @Test
+    @Timeout(value = 1, unit = TimeUnit.MINUTES)
+    void queriesDoNotScanWholeTables() throws SQLException {
+        Map<String, String> queries = new LinkedHashMap<>();
+        queries.put(
+            "ArtworkRepository.findSummariesByStatus",
+            "SELECT id, title FROM artwork WHERE status = 'OK' ORDER BY id DESC LIMIT 20"
+        );
+        queries.put(
+            "ArtworkRepository.findSummariesByStatusAndIdLessThan",
+            "SELECT id, title FROM artwork WHERE status = 'OK' AND id < 10000 ORDER BY id DESC LIMIT 21"
+        );
+        queries.put("ArtworkRepository.findAllByMemberId", "SELECT * FROM artwork WHERE member_id = 42");
+        queries.put("CommentRepository.findByArtwork_Id", "SELECT * FROM comment WHERE artwork_id = 42 ORDER BY id LIMIT 20");
+        queries.put("CommentRepository.findCommentsByMember_Id", "SELECT * FROM comment WHERE member_id = 42");
+        queries.put("LikeRepository.countByArtwork_Id", "SELECT COUNT(id) FROM jhi_like WHERE artwork_id = 42");
+        queries.put(
+            "LikeRepository.existsByArtwork_IdAndMember_Id",
+            "SELECT id FROM jhi_like WHERE artwork_id = 42 AND member_id = 43 LIMIT 1"
+        );
+        queries.put(
+            "LikeRepository.findLikedArtworkIds",
+            "SELECT artwork_id FROM jhi_like WHERE member_id = 43 AND artwork_id IN (42, 1039, 2036)"
+        );
+        queries.put(
+            "MemberNameRepository.renameAll(LIKE)",
+            "SELECT id, member_name FROM jhi_like WHERE member_id = 43 AND id > 0 ORDER BY id LIMIT 1000"
+        );
+        queries.put(
+            "MemberNameRepository.renameAll(VIEW)",
+            "SELECT id, member_name FROM view WHERE member_id = 43 AND id > 0 ORDER BY id LIMIT 1000"
+        );
+
+        List<String> fullScans = new ArrayList<>();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, String> query : queries.entrySet()) {
+                try (ResultSet plan = statement.executeQuery("EXPLAIN " + query.getValue())) {
+                    while (plan.next()) {
+                        String type = plan.getString("type");
+                        String key = plan.getString("key");
+                        if ("ALL".equals(type) || "index".equals(type) || key == null) {
+                            fullScans.add(query.getKey() + ": type=" + type + ", key=" + key + ", rows=" + plan.getLong("rows"));
+                        }
+                    }
+                }
+            }
+        }
+        assertThat(fullScans).isEmpty();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(mariadb.getJdbcUrl(), mariadb.getUsername(), mariadb.getPassword());
+    }
+}
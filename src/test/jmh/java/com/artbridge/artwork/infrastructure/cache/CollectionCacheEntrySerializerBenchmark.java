@@ -0,0 +1,74 @@
+package com.artbridge.artwork.infrastructure.cache;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.hibernate.serialization.Value;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Size and CPU cost of a collection region value (a hazelcast-hibernate {@link Value} holding a
+ * {@link CollectionCacheEntry} of ids), with Java serialization and with {@link CollectionCacheEntrySerializer}.
+ * <p>
+ * The serialized size of each case is printed once at setup, the benchmark measures a write and read round trip.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionCacheEntrySerializerBenchmark {
+
+    @Param({ "1", "10", "50", "200" })
+    private int ids;
+
+    @Param({ "java", "custom" })
+    private String serializer;
+
+    private SerializationService serializationService;
+
+    private Value value;
+
+    @Setup
+    public void setUp() throws Exception {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        if ("custom".equals(serializer)) {
+            serializationConfig.addSerializerConfig(
+                new SerializerConfig().setTypeClass(CollectionCacheEntry.class).setImplementation(new CollectionCacheEntrySerializer())
+            );
+        }
+        serializationService = new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+
+        Serializable[] state = new Serializable[ids];
+        for (int i = 0; i < ids; i++) {
+            state[i] = 100_000L + i;
+        }
+        Constructor<CollectionCacheEntry> constructor = CollectionCacheEntry.class.getDeclaredConstructor(Serializable.class);
+        constructor.setAccessible(true);
+        value = new Value(null, 1L, constructor.newInstance((Object) state));
+        System.out.println(ids + " ids, " + serializer + ": " + serializationService.toData(value).totalSize() + " bytes");
+    }
+
+    @Benchmark
+    public Value roundTrip() {
+        Data data = serializationService.toData(value);
+        return serializationService.toObject(data);
+    }
+}